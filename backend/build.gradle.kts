@@ -2,6 +2,7 @@ plugins {
     java
     id("org.springframework.boot") version "3.5.6"
     id("io.spring.dependency-management") version "1.1.7"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "com"
@@ -39,6 +40,10 @@ dependencies {
     runtimeOnly("io.jsonwebtoken:jjwt-impl:0.12.3")
     runtimeOnly("io.jsonwebtoken:jjwt-jackson:0.12.3")
 
+    // 캐시 + 메트릭 (검증된 토큰 캐시 hit/miss)
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    implementation("org.springframework.boot:spring-boot-starter-actuator")
+
     // 롬복
     compileOnly("org.projectlombok:lombok")
     annotationProcessor("org.projectlombok:lombok")
@@ -65,3 +70,21 @@ dependencies {
 tasks.withType<Test> {
     useJUnitPlatform()
 }
+
+// 부하 테스트 (src/loadTest) - 서버를 기본/virtual 프로필로 각각 띄워 처리량과 지연시간 비교
+val loadTest: SourceSet by sourceSets.creating
+
+tasks.register<JavaExec>("loadTest") {
+    group = "verification"
+    description = "플랫폼 스레드 vs 가상 스레드 부하 비교 (auth, review, plan API)"
+    classpath = loadTest.runtimeClasspath
+    mainClass.set("com.backend.loadtest.LoadTest")
+    listOf("baseUrl", "label", "loginId", "password", "concurrency", "durationSeconds").forEach { key ->
+        findProperty(key)?.let { systemProperty("loadtest.$key", it) }
+    }
+}
+
+// 마이크로 벤치마크 (src/jmh, ./gradlew jmh)
+jmh {
+    resultFormat.set("JSON")
+}
@@ -0,0 +1,49 @@
+package com.backend.global.config;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BCrypt 비용별 해시/검증 시간 측정 (PasswordEncoderConfig 와 같은 인코더 사용)
+ * - 실행: ./gradlew jmh
+ * - 로그인 한 번 = matches 한 번이므로, matches 시간으로 코어당 초당 로그인 처리량을 가늠
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Fork(1)
+public class PasswordEncoderBenchmark {
+
+    private static final String RAW_PASSWORD = "password1234!";
+
+    @Param({"8", "10", "12", "14"})
+    private int strength;
+
+    private PasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = PasswordEncoderConfig.bcrypt(strength);
+        encodedPassword = passwordEncoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public String encode() {
+        return passwordEncoder.encode(RAW_PASSWORD);
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches(RAW_PASSWORD, encodedPassword);
+    }
+
+    @Benchmark
+    public boolean matchesWrongPassword() {
+        return passwordEncoder.matches("wrong-password", encodedPassword);
+    }
+}
@@ -0,0 +1,153 @@
+package com.backend.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 플랫폼 스레드 vs 가상 스레드 비교용 부하 테스트
+ *
+ * 1. 서버 실행 (한 번은 기본, 한 번은 virtual 프로필)
+ *    ./gradlew bootRun --args='--spring.profiles.active=dev'
+ *    ./gradlew bootRun --args='--spring.profiles.active=dev,virtual'
+ * 2. 각각 부하 실행 후 결과 비교
+ *    ./gradlew loadTest -Plabel=platform -PloginId=test1234 -Ppassword=password1234
+ *    ./gradlew loadTest -Plabel=virtual  -PloginId=test1234 -Ppassword=password1234
+ *
+ * 시나리오(인증, 리뷰, 일정)마다 concurrency 개의 클라이언트가 duration 동안 요청을 반복하고
+ * 처리량(req/s), 지연시간(p50/p95/p99), 실패 수를 출력
+ */
+public class LoadTest {
+
+    private static final Pattern ACCESS_TOKEN = Pattern.compile("\"accessToken\"\\s*:\\s*\"([^\"]+)\"");
+
+    private record Scenario(String name, String method, String path, String body, boolean authenticated) {
+    }
+
+    private record Result(String scenario, long requests, long errors, double seconds, long[] latenciesNanos) {
+
+        double throughput() {
+            return requests / seconds;
+        }
+
+        double percentileMillis(double p) {
+            if (latenciesNanos.length == 0) return 0;
+            int index = (int) Math.ceil(p * latenciesNanos.length) - 1;
+            return latenciesNanos[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = System.getProperty("loadtest.baseUrl", "http://localhost:8080");
+        String label = System.getProperty("loadtest.label", "unknown");
+        String loginId = System.getProperty("loadtest.loginId", "test1234");
+        String password = System.getProperty("loadtest.password", "password1234");
+        int concurrency = Integer.parseInt(System.getProperty("loadtest.concurrency", "200"));
+        Duration duration = Duration.ofSeconds(Long.parseLong(System.getProperty("loadtest.durationSeconds", "30")));
+
+        HttpClient client = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        String loginBody = "{\"memberId\":\"" + loginId + "\",\"password\":\"" + password + "\"}";
+        String accessToken = login(client, baseUrl, loginBody);
+
+        List<Scenario> scenarios = List.of(
+                new Scenario("auth.login", "POST", "/api/auth/login", loginBody, false),
+                new Scenario("review.lists", "GET", "/api/review/lists?size=20", null, false),
+                new Scenario("review.recommend", "GET", "/api/review/recommend/hotel?limit=10", null, false),
+                new Scenario("plan.list", "GET", "/api/plan/list", null, true),
+                new Scenario("plan.today", "GET", "/api/plan/todayPlan", null, true)
+        );
+
+        System.out.printf("# label=%s baseUrl=%s concurrency=%d duration=%ds%n",
+                label, baseUrl, concurrency, duration.toSeconds());
+        System.out.printf("%-10s %-18s %10s %10s %9s %9s %9s %8s%n",
+                "label", "scenario", "requests", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "errors");
+
+        for (Scenario scenario : scenarios) {
+            Result result = run(client, baseUrl, accessToken, scenario, concurrency, duration);
+            System.out.printf("%-10s %-18s %10d %10.1f %9.1f %9.1f %9.1f %8d%n",
+                    label, result.scenario(), result.requests(), result.throughput(),
+                    result.percentileMillis(0.50), result.percentileMillis(0.95), result.percentileMillis(0.99),
+                    result.errors());
+        }
+    }
+
+    private static String login(HttpClient client, String baseUrl, String loginBody) throws Exception {
+        HttpResponse<String> response = client.send(
+                request(baseUrl, new Scenario("login", "POST", "/api/auth/login", loginBody, false), null),
+                HttpResponse.BodyHandlers.ofString());
+        Matcher matcher = ACCESS_TOKEN.matcher(response.body());
+        if (response.statusCode() >= 400 || !matcher.find()) {
+            throw new IllegalStateException("로그인 실패 (" + response.statusCode() + "): " + response.body());
+        }
+        return matcher.group(1);
+    }
+
+    // 클라이언트는 항상 가상 스레드 - 서버 쪽 스레드 모델만 비교되도록
+    private static Result run(HttpClient client, String baseUrl, String accessToken,
+                              Scenario scenario, int concurrency, Duration duration) throws Exception {
+        long deadline = System.nanoTime() + duration.toNanos();
+        long startedAt = System.nanoTime();
+
+        List<Future<long[]>> workers = new ArrayList<>();
+        long[] errors = new long[concurrency];
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                int worker = i;
+                workers.add(executor.submit(() -> {
+                    long[] latencies = new long[1024];
+                    int count = 0;
+                    HttpRequest request = request(baseUrl, scenario, accessToken);
+                    while (System.nanoTime() < deadline) {
+                        long begin = System.nanoTime();
+                        try {
+                            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                            if (response.statusCode() >= 400) errors[worker]++;
+                        } catch (Exception e) {
+                            errors[worker]++;
+                        }
+                        if (count == latencies.length) latencies = Arrays.copyOf(latencies, count * 2);
+                        latencies[count++] = System.nanoTime() - begin;
+                    }
+                    return Arrays.copyOf(latencies, count);
+                }));
+            }
+        }
+        double seconds = (System.nanoTime() - startedAt) / 1_000_000_000.0;
+
+        long[] all = new long[0];
+        for (Future<long[]> worker : workers) {
+            long[] latencies = worker.get();
+            int offset = all.length;
+            all = Arrays.copyOf(all, offset + latencies.length);
+            System.arraycopy(latencies, 0, all, offset, latencies.length);
+        }
+        Arrays.sort(all);
+        return new Result(scenario.name(), all.length, Arrays.stream(errors).sum(), seconds, all);
+    }
+
+    private static HttpRequest request(String baseUrl, Scenario scenario, String accessToken) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + scenario.path()))
+                .timeout(Duration.ofSeconds(30))
+                .header("Content-Type", "application/json");
+        if (scenario.authenticated() && accessToken != null) {
+            builder.header("Authorization", "Bearer " + accessToken);
+        }
+        return "POST".equals(scenario.method())
+                ? builder.POST(HttpRequest.BodyPublishers.ofString(scenario.body())).build()
+                : builder.GET().build();
+    }
+}
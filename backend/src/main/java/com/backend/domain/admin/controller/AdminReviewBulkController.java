@@ -0,0 +1,44 @@
+package com.backend.domain.admin.controller;
+
+import com.backend.domain.review.dto.ReviewBulkResponse;
+import com.backend.domain.review.dto.ReviewBulkRow;
+import com.backend.domain.review.service.ReviewBulkService;
+import com.backend.global.exception.BusinessException;
+import com.backend.global.response.ApiResponse;
+import com.backend.global.response.ErrorCode;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequestMapping("/api/admin/reviews")
+@RequiredArgsConstructor
+public class AdminReviewBulkController {
+
+    private final ReviewBulkService reviewBulkService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 리뷰 대량 등록 - 실패한 행은 rejected 로 반환하고 나머지는 계속 등록
+     * - 본문([{memberId, placeId, rating}, ...])을 한 번에 바인딩하지 않고 스트리밍 파서로 배치 크기만큼씩 읽음
+     * - 본문 첫 부분부터 JSON 이 아니면 400 (R005), 중간에 형식이 깨지면 그 앞까지 등록한 결과를 반환 (마지막 rejected 가 R005)
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ApiResponse<ReviewBulkResponse> bulkCreateReviews(HttpServletRequest request) throws IOException {
+        MappingIterator<ReviewBulkRow> rows;
+        try {
+            rows = objectMapper.readerFor(ReviewBulkRow.class).readValues(request.getInputStream());
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INVALID_BULK_REVIEW_PAYLOAD);
+        }
+        try (rows) {
+            return ApiResponse.success(reviewBulkService.ingest(rows));
+        }
+    }
+}
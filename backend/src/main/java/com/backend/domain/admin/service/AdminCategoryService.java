@@ -5,6 +5,8 @@ import com.backend.domain.category.dto.ResponseCategoryDto;
 import com.backend.domain.category.entity.Category;
 import com.backend.domain.category.repository.CategoryRepository;
 import com.backend.domain.category.service.CategoryService;
+import com.backend.domain.place.service.PlaceLeaderboard;
+import com.backend.domain.review.service.TrendingPlaces;
 import com.backend.global.exception.BusinessException;
 import com.backend.global.response.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -20,6 +22,8 @@ public class AdminCategoryService {
 
     private final CategoryRepository categoryRepository;
     private final CategoryService categoryService;
+    private final PlaceLeaderboard placeLeaderboard;
+    private final TrendingPlaces trendingPlaces;
 
     /** 전체 카테고리 조회 */
     public List<ResponseCategoryDto> getAllCategories() {
@@ -45,7 +49,10 @@ public class AdminCategoryService {
         Category category = categoryRepository.findById(categoryId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_CATEGORY));
 
+        String oldName = category.getName();
         category.setName(newName);
+        placeLeaderboard.renameCategoryAfterCommit(oldName, newName);
+        trendingPlaces.renameCategoryAfterCommit(oldName, newName);
         return ResponseCategoryDto.from(category);
     }
 
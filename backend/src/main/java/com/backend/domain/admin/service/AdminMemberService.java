@@ -1,12 +1,13 @@
 package com.backend.domain.admin.service;
 
 import com.backend.domain.admin.dto.response.MemberAdminResponse;
-import com.backend.domain.auth.repository.RefreshTokenRepository;
+import com.backend.domain.auth.repository.RefreshTokenStore;
 import com.backend.domain.member.entity.Member;
 import com.backend.domain.member.entity.Role;
 import com.backend.domain.member.repository.MemberRepository;
 import com.backend.global.exception.BusinessException;
 import com.backend.global.response.ErrorCode;
+import com.backend.global.security.MemberRevocationRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,7 +20,8 @@ import java.util.List;
 public class AdminMemberService {
 
     private final MemberRepository memberRepository;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
+    private final MemberRevocationRegistry memberRevocationRegistry;
 
     public List<MemberAdminResponse> getAllMembers() {
         return memberRepository.findAll().stream()
@@ -41,15 +43,17 @@ public class AdminMemberService {
             throw new BusinessException(ErrorCode.ACCESS_DENIED);
         }
 
-        // 관련 RefreshToken 삭제
+        // 관련 RefreshToken 삭제 + AccessToken 차단 (invalidateRefreshToken 에서 커밋 이후 차단 등록)
         invalidateRefreshToken(member.getId());
 
         memberRepository.deleteById(id);
     }
 
+    // RefreshToken 삭제 + 이미 발급된 AccessToken 도 차단 (강제 로그아웃)
     @Transactional
     public void invalidateRefreshToken(Long id) {
-        refreshTokenRepository.deleteByMemberPk(id);
+        refreshTokenStore.deleteByMemberPk(id);
+        memberRevocationRegistry.revokeAfterCommit(id);
     }
 
     /** 공통 메서드 */
@@ -6,7 +6,9 @@ import com.backend.domain.place.dto.RequestPlaceDto;
 import com.backend.domain.place.dto.ResponsePlaceDto;
 import com.backend.domain.place.entity.Place;
 import com.backend.domain.place.repository.PlaceRepository;
+import com.backend.domain.place.service.PlaceLeaderboard;
 import com.backend.domain.place.service.PlaceService;
+import com.backend.domain.review.service.TrendingPlaces;
 import com.backend.global.exception.BusinessException;
 import com.backend.global.response.ErrorCode;
 import lombok.RequiredArgsConstructor;
@@ -22,6 +24,8 @@ public class AdminPlaceService {
     private final PlaceRepository placeRepository;
     private final CategoryRepository categoryRepository;
     private final PlaceService placeService; // 기존 로직 재사용
+    private final PlaceLeaderboard placeLeaderboard;
+    private final TrendingPlaces trendingPlaces;
 
     /** 전체 장소 조회 */
     public List<ResponsePlaceDto> getAllPlaces() {
@@ -55,6 +59,7 @@ public class AdminPlaceService {
                 .build();
 
         placeRepository.save(place);
+        placeLeaderboard.upsertAfterCommit(place);
     }
 
     /** 장소 수정 */
@@ -68,5 +73,7 @@ public class AdminPlaceService {
                 placeRepository.findById(id)
                         .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_PLACE))
         );
+        placeLeaderboard.removeAfterCommit(id);
+        trendingPlaces.placeRemovedAfterCommit(id);
     }
 }
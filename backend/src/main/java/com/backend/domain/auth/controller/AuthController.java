@@ -50,9 +50,10 @@ public class AuthController {
     @PostMapping("/logout")
     public ApiResponse<Void> logout(
             @RequestHeader("Authorization") String accessToken,
+            @CookieValue(value = "refreshToken", required = false) String refreshToken,
             HttpServletResponse response)
     {
-        authService.logout(accessToken);
+        authService.logout(accessToken, refreshToken);
         cookieManager.deleteRefreshTokenCookie(response);
         return ApiResponse.created(null);
     }
@@ -5,22 +5,37 @@ import lombok.*;
 
 import java.time.LocalDateTime;
 
+/**
+ * RefreshToken (기기/로그인 세션마다 한 행)
+ * - 토큰 원문 대신 SHA-256 해시만 저장
+ * - 같은 로그인에서 재발급(rotation)된 토큰들은 같은 familyId 를 가짐
+ * - 재발급에 사용된 토큰은 rotatedAt 을 남겨두고, 다시 사용되면 탈취로 보고 family 전체를 폐기
+ */
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "refresh_token")
+@Table(name = "refresh_token",
+        indexes = {
+                @Index(name = "idx_refresh_token_member_pk", columnList = "member_pk"),
+                @Index(name = "idx_refresh_token_family_id", columnList = "family_id"),
+                @Index(name = "idx_refresh_token_expiry", columnList = "expiry")
+        })
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class RefreshToken {
 
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    @Column(name = "member_pk", nullable = false)
     private Long memberPk;          // Member의 PK(id)와 연결 not memberId
 
-    @Column(nullable = false, unique = true, length = 512)
-    private String token;           // 실제 Refresh Token 값
+    @Column(name = "token_hash", nullable = false, unique = true, length = 44)
+    private String tokenHash;       // Refresh Token 의 SHA-256 (Base64)
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;        // 최초 로그인 시 생성, 재발급 시 이어받음
 
     @Column(nullable = false)
     private LocalDateTime issuedAt; // 발급 시간
@@ -28,9 +43,13 @@ public class RefreshToken {
     @Column(nullable = false)
     private LocalDateTime expiry;   // 만료일시
 
-    // 토큰 갱신 시 사용
-    public void updateToken(String newToken, LocalDateTime newExpiry) {
-        this.token = newToken;
-        this.expiry = newExpiry;
+    private LocalDateTime rotatedAt; // 재발급에 사용된 시각 (null 이면 아직 사용 가능)
+
+    public boolean isRotated() {
+        return rotatedAt != null;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiry.isAfter(now);
     }
 }
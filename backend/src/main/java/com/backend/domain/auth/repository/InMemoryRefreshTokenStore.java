@@ -0,0 +1,314 @@
+package com.backend.domain.auth.repository;
+
+import com.backend.domain.auth.entity.RefreshToken;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 프로세스 내 RefreshToken 저장소 (custom.jwt.refresh-token.store=memory)
+ * - 조회는 해시 -> 토큰 ConcurrentHashMap 에서 락 없이
+ * - 회원/family/만료시각 인덱스는 쓰기 락 안에서 함께 갱신 (만료 정리는 만료시각 순 TreeMap 의 앞부분만 확인)
+ * - 모든 변경은 스냅샷 파일에 한 줄씩 덧붙여 재시작 시 다시 읽음, 만료 정리 때 살아있는 토큰만 남기도록 파일을 다시 씀
+ * - 단일 인스턴스 배포 전용 (여러 대로 띄우면 jpa 저장소 사용)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "custom.jwt.refresh-token.store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private static final String PUT = "PUT";
+    private static final String ROTATE = "ROT";
+    private static final String DELETE = "DEL";
+    private static final String NONE = "-";
+    private static final String SEPARATOR = "\t";
+    private static final int PUT_FIELDS = 7;
+
+    private final Map<String, RefreshToken> byHash = new ConcurrentHashMap<>();
+
+    // 아래 인덱스와 스냅샷 파일은 lock 안에서만 접근 (파일 IO 가 있어 synchronized 대신 ReentrantLock)
+    private final Map<Long, Set<String>> byMember = new HashMap<>();
+    private final Map<String, Set<String>> byFamily = new HashMap<>();
+    private final NavigableMap<LocalDateTime, Set<String>> byExpiry = new TreeMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Path snapshotFile;
+    private BufferedWriter writer;
+
+    public InMemoryRefreshTokenStore(
+            @Value("${custom.jwt.refresh-token.snapshot-file:./data/refresh-tokens.log}") String snapshotFile) {
+        this.snapshotFile = Paths.get(snapshotFile);
+    }
+
+    @PostConstruct
+    public void load() {
+        lock.lock();
+        try {
+            if (Files.exists(snapshotFile)) {
+                replay();
+            }
+            pruneExpired(LocalDateTime.now());
+            compact();
+            log.info("[Auth] RefreshToken 스냅샷 로드 완료: {}건 ({})", byHash.size(), snapshotFile);
+        } catch (IOException e) {
+            throw new UncheckedIOException("RefreshToken 스냅샷을 읽을 수 없습니다: " + snapshotFile, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        lock.lock();
+        try {
+            if (writer != null) {
+                writer.close();
+            }
+        } catch (IOException e) {
+            log.warn("[Auth] RefreshToken 스냅샷 닫기 실패: {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<RefreshToken> findByTokenHash(String tokenHash) {
+        return Optional.ofNullable(byHash.get(tokenHash));
+    }
+
+    @Override
+    public void save(RefreshToken token) {
+        lock.lock();
+        try {
+            index(token);
+            append(toPutLine(token));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean markRotated(String tokenHash, LocalDateTime now) {
+        lock.lock();
+        try {
+            RefreshToken token = byHash.get(tokenHash);
+            if (token == null || token.isRotated()) {
+                return false;
+            }
+            byHash.put(tokenHash, token.toBuilder().rotatedAt(now).build());
+            append(String.join(SEPARATOR, ROTATE, tokenHash, now.toString()));
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int deleteByFamilyId(String familyId) {
+        lock.lock();
+        try {
+            return deleteAll(byFamily.get(familyId));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int deleteByMemberPk(Long memberPk) {
+        lock.lock();
+        try {
+            return deleteAll(byMember.get(memberPk));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime now) {
+        lock.lock();
+        try {
+            int deleted = pruneExpired(now);
+            compact();
+            return deleted;
+        } catch (IOException e) {
+            throw new UncheckedIOException("RefreshToken 스냅샷을 정리할 수 없습니다: " + snapshotFile, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // === 인덱스 === //
+
+    private void index(RefreshToken token) {
+        remove(token.getTokenHash());
+        byHash.put(token.getTokenHash(), token);
+        byMember.computeIfAbsent(token.getMemberPk(), k -> new HashSet<>()).add(token.getTokenHash());
+        byFamily.computeIfAbsent(token.getFamilyId(), k -> new HashSet<>()).add(token.getTokenHash());
+        byExpiry.computeIfAbsent(token.getExpiry(), k -> new HashSet<>()).add(token.getTokenHash());
+    }
+
+    private boolean remove(String tokenHash) {
+        RefreshToken token = byHash.remove(tokenHash);
+        if (token == null) {
+            return false;
+        }
+        unindex(byMember, token.getMemberPk(), tokenHash);
+        unindex(byFamily, token.getFamilyId(), tokenHash);
+        unindex(byExpiry, token.getExpiry(), tokenHash);
+        return true;
+    }
+
+    private static <K> void unindex(Map<K, Set<String>> index, K key, String tokenHash) {
+        Set<String> hashes = index.get(key);
+        if (hashes != null && hashes.remove(tokenHash) && hashes.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    private int deleteAll(Set<String> hashes) {
+        if (hashes == null) {
+            return 0;
+        }
+        int deleted = 0;
+        for (String tokenHash : List.copyOf(hashes)) {
+            if (remove(tokenHash)) {
+                append(String.join(SEPARATOR, DELETE, tokenHash));
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    private int pruneExpired(LocalDateTime now) {
+        List<String> expired = new ArrayList<>();
+        byExpiry.headMap(now, true).values().forEach(expired::addAll);
+        expired.forEach(this::remove);
+        return expired.size();
+    }
+
+    // === 스냅샷 파일 === //
+
+    // 쓰는 도중 종료되면 마지막 줄이 잘릴 수 있으므로 형식이 맞지 않는 줄은 건너뜀 (이후 compact 가 파일을 다시 씀)
+    private void replay() throws IOException {
+        int skipped = 0;
+        try (BufferedReader reader = Files.newBufferedReader(snapshotFile, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!replayLine(line.split(SEPARATOR, -1))) {
+                    skipped++;
+                }
+            }
+        }
+        if (skipped > 0) {
+            log.warn("[Auth] 손상된 RefreshToken 스냅샷 항목 {}건 무시 ({})", skipped, snapshotFile);
+        }
+    }
+
+    private boolean replayLine(String[] fields) {
+        try {
+            switch (fields[0]) {
+                case PUT -> {
+                    if (fields.length != PUT_FIELDS) {
+                        return false;
+                    }
+                    index(fromPutLine(fields));
+                }
+                case ROTATE -> {
+                    if (fields.length != 3) {
+                        return false;
+                    }
+                    LocalDateTime rotatedAt = LocalDateTime.parse(fields[2]);
+                    RefreshToken token = byHash.get(fields[1]);
+                    if (token != null) {
+                        byHash.put(fields[1], token.toBuilder().rotatedAt(rotatedAt).build());
+                    }
+                }
+                case DELETE -> {
+                    if (fields.length != 2) {
+                        return false;
+                    }
+                    remove(fields[1]);
+                }
+                default -> {
+                    return false;
+                }
+            }
+            return true;
+        } catch (DateTimeParseException | NumberFormatException e) {
+            return false;
+        }
+    }
+
+    // 살아있는 토큰만 임시 파일에 쓰고 교체 후 이어쓰기 모드로 다시 연다
+    private void compact() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+        Path parent = snapshotFile.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Path tmp = snapshotFile.resolveSibling(snapshotFile.getFileName() + ".tmp");
+        try (BufferedWriter out = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+            for (RefreshToken token : byHash.values()) {
+                out.write(toPutLine(token));
+                out.newLine();
+            }
+        }
+        Files.move(tmp, snapshotFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        writer = Files.newBufferedWriter(snapshotFile, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+    }
+
+    // 파일 쓰기 실패는 메모리 상태에 영향을 주지 않음 (재시작 시에만 유실)
+    private void append(String line) {
+        try {
+            writer.write(line);
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            log.error("[Auth] RefreshToken 스냅샷 기록 실패: {}", e.getMessage());
+        }
+    }
+
+    private static String toPutLine(RefreshToken token) {
+        return String.join(SEPARATOR,
+                PUT,
+                token.getTokenHash(),
+                String.valueOf(token.getMemberPk()),
+                token.getFamilyId(),
+                token.getIssuedAt().toString(),
+                token.getExpiry().toString(),
+                token.getRotatedAt() == null ? NONE : token.getRotatedAt().toString());
+    }
+
+    private static RefreshToken fromPutLine(String[] fields) {
+        return RefreshToken.builder()
+                .tokenHash(fields[1])
+                .memberPk(Long.valueOf(fields[2]))
+                .familyId(fields[3])
+                .issuedAt(LocalDateTime.parse(fields[4]))
+                .expiry(LocalDateTime.parse(fields[5]))
+                .rotatedAt(NONE.equals(fields[6]) ? null : LocalDateTime.parse(fields[6]))
+                .build();
+    }
+}
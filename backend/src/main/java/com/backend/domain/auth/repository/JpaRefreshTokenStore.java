@@ -0,0 +1,47 @@
+package com.backend.domain.auth.repository;
+
+import com.backend.domain.auth.entity.RefreshToken;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "custom.jwt.refresh-token.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Override
+    public Optional<RefreshToken> findByTokenHash(String tokenHash) {
+        return refreshTokenRepository.findByTokenHash(tokenHash);
+    }
+
+    @Override
+    public void save(RefreshToken token) {
+        refreshTokenRepository.save(token);
+    }
+
+    @Override
+    public boolean markRotated(String tokenHash, LocalDateTime now) {
+        return refreshTokenRepository.markRotated(tokenHash, now) > 0;
+    }
+
+    @Override
+    public int deleteByFamilyId(String familyId) {
+        return refreshTokenRepository.deleteByFamilyId(familyId);
+    }
+
+    @Override
+    public int deleteByMemberPk(Long memberPk) {
+        return refreshTokenRepository.deleteByMemberPk(memberPk);
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime now) {
+        return refreshTokenRepository.deleteExpired(now);
+    }
+}
@@ -2,18 +2,37 @@ package com.backend.domain.auth.repository;
 
 import com.backend.domain.auth.entity.RefreshToken;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 @Repository
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
 
-    Optional<RefreshToken> findByMemberPk(Long memberId);
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
 
-    Optional<RefreshToken> findByToken(String token);
+    // 재발급에 쓰인 토큰 표시 - 아직 사용되지 않은 경우에만 (동시 재발급 시 한 요청만 성공)
+    @Modifying(clearAutomatically = true)
+    @Query("""
+UPDATE RefreshToken t SET t.rotatedAt = :now
+WHERE t.tokenHash = :tokenHash AND t.rotatedAt IS NULL
+""")
+    int markRotated(@Param("tokenHash") String tokenHash, @Param("now") LocalDateTime now);
 
-    void deleteByMemberPk(Long memberId);
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM RefreshToken t WHERE t.familyId = :familyId")
+    int deleteByFamilyId(@Param("familyId") String familyId);
 
-    boolean existsByMemberPk(Long memberId);
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM RefreshToken t WHERE t.memberPk = :memberPk")
+    int deleteByMemberPk(@Param("memberPk") Long memberPk);
+
+    // 만료된 토큰 일괄 삭제 (expiry 인덱스 사용)
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM RefreshToken t WHERE t.expiry <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
 }
@@ -0,0 +1,27 @@
+package com.backend.domain.auth.repository;
+
+import com.backend.domain.auth.entity.RefreshToken;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * RefreshToken 저장소
+ * - custom.jwt.refresh-token.store=jpa    : refresh_token 테이블 (기본값)
+ * - custom.jwt.refresh-token.store=memory : 프로세스 내 저장 + 스냅샷 파일 (재발급이 몰려도 DB 를 타지 않음)
+ */
+public interface RefreshTokenStore {
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    void save(RefreshToken token);
+
+    /** 재발급에 사용된 토큰 표시 - 이미 사용된 토큰이면 false (동시 재발급 시 한 요청만 성공) */
+    boolean markRotated(String tokenHash, LocalDateTime now);
+
+    int deleteByFamilyId(String familyId);
+
+    int deleteByMemberPk(Long memberPk);
+
+    int deleteExpired(LocalDateTime now);
+}
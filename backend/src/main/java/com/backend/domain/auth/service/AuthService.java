@@ -2,24 +2,32 @@ package com.backend.domain.auth.service;
 
 import com.backend.domain.auth.dto.reponse.TokenResponse;
 import com.backend.domain.auth.entity.RefreshToken;
-import com.backend.domain.auth.repository.RefreshTokenRepository;
+import com.backend.domain.auth.repository.RefreshTokenStore;
 import com.backend.domain.member.entity.Member;
 import com.backend.domain.member.entity.MemberStatus;
 import com.backend.domain.member.repository.MemberRepository;
 import com.backend.global.exception.BusinessException;
+import com.backend.global.jwt.JwtClaims;
 import com.backend.global.jwt.JwtTokenProvider;
+import com.backend.global.jwt.ParsedToken;
+import com.backend.global.jwt.TokenHasher;
 import com.backend.global.jwt.TokenStatus;
 import com.backend.global.response.ErrorCode;
+import com.backend.global.security.LoginAttemptLimiter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 /**
  * 인증 서비스 (JWT 발급, 재발급, 로그아웃)
+ * - RefreshToken 은 로그인(기기)마다 따로 저장하고, 재발급 때마다 새 토큰으로 교체(rotation)
  */
 @Service
 @RequiredArgsConstructor
@@ -29,50 +37,65 @@ public class AuthService {
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
-    private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenStore refreshTokenStore;
     private final JwtTokenProvider jwtTokenProvider;
+    private final LoginAttemptLimiter loginAttemptLimiter;
 
     /** 로그인: AccessToken + RefreshToken 발급 */
     @Transactional
     public TokenResponse login(String loginId, String password) {
 
+        // 연속 실패한 아이디는 DB 조회/해시 계산 전에 거절
+        if (loginAttemptLimiter.isBlocked(loginId)) {
+            throw new BusinessException(ErrorCode.TOO_MANY_LOGIN_ATTEMPTS);
+        }
+
         Member member = memberRepository.findByMemberId(loginId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
+                .orElseThrow(() -> {
+                    loginAttemptLimiter.recordFailure(loginId);
+                    return new BusinessException(ErrorCode.MEMBER_NOT_FOUND);
+                });
 
         if (member.getStatus() != MemberStatus.ACTIVE) {
             throw new BusinessException(ErrorCode.INACTIVE_MEMBER); // 새로운 에러 코드 추가
         }
 
         if (!passwordEncoder.matches(password, member.getPassword())) {
+            loginAttemptLimiter.recordFailure(loginId);
             throw new BusinessException(ErrorCode.INVALID_PASSWORD);
         }
+        loginAttemptLimiter.reset(loginId);
+
+        // BCrypt 비용이 올라갔으면 이번에 받은 평문으로 다시 해시해서 저장 (변경 감지)
+        if (passwordEncoder.upgradeEncoding(member.getPassword())) {
+            member.updatePassword(passwordEncoder.encode(password));
+            log.info("[Auth] 비밀번호 해시 갱신: memberPk={}", member.getId());
+        }
 
         Long memberPk = member.getId();
 
-        String accessToken = jwtTokenProvider.generateAccessToken(memberPk, member.getRole());
+        String accessToken = jwtTokenProvider.generateAccessToken(memberPk, member.getRole(), member.getStatus());
         String refreshToken = jwtTokenProvider.generateRefreshToken(memberPk, member.getRole());
         long refreshTokenMaxAge = jwtTokenProvider.getRefreshTokenExpireTime();
 
-        saveOrUpdateRefreshToken(memberPk, refreshToken);
+        // 새 로그인 = 새 토큰 family (다른 기기의 토큰은 그대로 유지)
+        saveRefreshToken(memberPk, refreshToken, UUID.randomUUID().toString());
 
         log.info("[Auth] 로그인 성공: memberPk={}, issuedAt={}", memberPk, LocalDateTime.now());
 
         return TokenResponse.of(accessToken, refreshToken, refreshTokenMaxAge, member.getRole().name());
     }
 
-    /** AccessToken 재발급 */
-    @Transactional
+    /** AccessToken 재발급 + RefreshToken 교체 (재사용 탐지 시 family 폐기는 예외가 나도 커밋) */
+    @Transactional(noRollbackFor = BusinessException.class)
     public TokenResponse reissue(String refreshToken) {
 
         if (refreshToken == null) {
             throw new BusinessException(ErrorCode.TOKEN_NOT_FOUND);
         }
 
-        // 1. 유효성 검사
-        validateTokenStatus(refreshToken);
-
-        // 2. 토큰에서 memberPk 추출
-        Long memberPk = jwtTokenProvider.getMemberIdFromToken(refreshToken);
+        // 1. 유효성 검사 + 2. 토큰에서 memberPk 추출 (한 번만 파싱)
+        Long memberPk = parseRefreshToken(refreshToken).memberId();
 
         // 3. DB 토큰 검증
         RefreshToken savedToken = getValidatedRefreshToken(refreshToken, memberPk);
@@ -81,46 +104,82 @@ public class AuthService {
         Member member = memberRepository.findById(memberPk)
                 .orElseThrow(() -> new BusinessException(ErrorCode.MEMBER_NOT_FOUND));
 
-        // 5. 새 AccessToken 발급
-        String newAccessToken = jwtTokenProvider.generateAccessToken(memberPk, member.getRole());
+        if (member.getStatus() != MemberStatus.ACTIVE) {
+            throw new BusinessException(ErrorCode.INACTIVE_MEMBER);
+        }
+
+        // 5. 사용한 RefreshToken 표시 - 동시에 같은 토큰으로 재발급한 요청이 있으면 재사용으로 처리
+        if (!refreshTokenStore.markRotated(savedToken.getTokenHash(), LocalDateTime.now())) {
+            throw revokeFamily(savedToken);
+        }
+
+        // 6. 새 AccessToken + 같은 family 의 새 RefreshToken 발급
+        String newAccessToken = jwtTokenProvider.generateAccessToken(memberPk, member.getRole(), member.getStatus());
+        String newRefreshToken = jwtTokenProvider.generateRefreshToken(memberPk, member.getRole());
         long refreshTokenMaxAge = jwtTokenProvider.getRefreshTokenExpireTime();
 
+        saveRefreshToken(memberPk, newRefreshToken, savedToken.getFamilyId());
+
         log.info("[Auth] AccessToken 재발급 완료: memberPk={}, reissuedAt={}", memberPk, LocalDateTime.now());
 
-        return TokenResponse.of(newAccessToken, savedToken.getToken(), refreshTokenMaxAge, member.getRole().name());
+        return TokenResponse.of(newAccessToken, newRefreshToken, refreshTokenMaxAge, member.getRole().name());
     }
 
+    /** 로그아웃: 쿠키의 RefreshToken 이 속한 family(현재 기기)만 폐기, 쿠키가 없으면 회원의 모든 토큰 폐기 */
     @Transactional
-    public void logout(String accessTokenHeader) {
-        Long memberPk = jwtTokenProvider.getMemberIdFromToken(extractToken(accessTokenHeader));
-        refreshTokenRepository.deleteByMemberPk(memberPk);
+    public void logout(String accessTokenHeader, String refreshToken) {
+        Long memberPk = getMemberId(accessTokenHeader);
+
+        if (refreshToken == null) {
+            refreshTokenStore.deleteByMemberPk(memberPk);
+        } else {
+            refreshTokenStore.findByTokenHash(TokenHasher.sha256(refreshToken))
+                    .filter(token -> token.getMemberPk().equals(memberPk))
+                    .ifPresent(token -> refreshTokenStore.deleteByFamilyId(token.getFamilyId()));
+        }
         log.info("[Auth] 로그아웃 완료: memberPk={}, deletedAt={}", memberPk, LocalDateTime.now());
     }
 
     /**
-     * RefreshToken 생성 or 갱신
+     * RefreshToken 저장 (원문 대신 해시)
      */
-    @Transactional
-    private void saveOrUpdateRefreshToken(Long memberPk, String refreshToken) {
-        LocalDateTime expiryTime = LocalDateTime.now()
-                .plusSeconds(jwtTokenProvider.getRefreshTokenExpireTime());
-
-        RefreshToken token = refreshTokenRepository.findByMemberPk(memberPk)
-                .orElseGet(() -> RefreshToken.builder()
-                        .memberPk(memberPk)
-                        .issuedAt(LocalDateTime.now())
-                        .build());
-
-        token.updateToken(refreshToken, expiryTime);
-        refreshTokenRepository.save(token);
+    private void saveRefreshToken(Long memberPk, String refreshToken, String familyId) {
+        LocalDateTime now = LocalDateTime.now();
+
+        refreshTokenStore.save(RefreshToken.builder()
+                .memberPk(memberPk)
+                .tokenHash(TokenHasher.sha256(refreshToken))
+                .familyId(familyId)
+                .issuedAt(now)
+                .expiry(now.plusSeconds(jwtTokenProvider.getRefreshTokenExpireTime()))
+                .build());
+    }
+
+    /** 이미 교체된 토큰이 다시 사용됨 -> 탈취 가능성이 있으므로 같은 family 전체 폐기 */
+    private BusinessException revokeFamily(RefreshToken reusedToken) {
+        refreshTokenStore.deleteByFamilyId(reusedToken.getFamilyId());
+        log.warn("[Auth] RefreshToken 재사용 감지, family 폐기: memberPk={}, familyId={}",
+                reusedToken.getMemberPk(), reusedToken.getFamilyId());
+        return new BusinessException(ErrorCode.REUSED_REFRESH_TOKEN);
     }
 
     // === 공통 유틸 메서드 === //
 
-    /** 토큰에서 memberId 가져오기 */
+    /** 토큰에서 memberId 가져오기 - 필터에서 검증한 Claims 를 재사용 (다시 파싱하지 않음) */
     public Long getMemberId(String accessTokenHeader) {
-        String token = extractToken(accessTokenHeader);
-        return jwtTokenProvider.getMemberIdFromToken(token);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getDetails() instanceof JwtClaims claims) {
+            return claims.memberId();
+        }
+
+        // 필터를 거치지 않은 요청만 직접 파싱
+        ParsedToken parsed = jwtTokenProvider.parse(extractToken(accessTokenHeader));
+        if (!parsed.isValid()) {
+            throw new BusinessException(parsed.status() == TokenStatus.EXPIRED
+                    ? ErrorCode.EXPIRED_ACCESS_TOKEN
+                    : ErrorCode.INVALID_ACCESS_TOKEN);
+        }
+        return parsed.claims().memberId();
     }
 
     /** Bearer 접두사 제거 */
@@ -131,26 +190,33 @@ public class AuthService {
         return headerValue.replace("Bearer ", "").trim();
     }
 
-    /** RefreshToken DB 검증 */
+    /** RefreshToken DB 검증 (해시로 조회 - token_hash 유니크 인덱스) */
     private RefreshToken getValidatedRefreshToken(String refreshToken, Long memberPk) {
-        RefreshToken savedToken = refreshTokenRepository.findByMemberPk(memberPk)
+        RefreshToken savedToken = refreshTokenStore.findByTokenHash(TokenHasher.sha256(refreshToken))
                 .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN));
 
-        if (!savedToken.getToken().equals(refreshToken)) {
+        if (!savedToken.getMemberPk().equals(memberPk)) {
             throw new BusinessException(ErrorCode.MISMATCH_REFRESH_TOKEN);
         }
+        if (savedToken.isRotated()) {
+            throw revokeFamily(savedToken);
+        }
+        if (savedToken.isExpired(LocalDateTime.now())) {
+            throw new BusinessException(ErrorCode.EXPIRED_REFRESH_TOKEN);
+        }
         return savedToken;
     }
 
-    /** 토큰 상태 검증 (TokenStatus 기반) */
-    private void validateTokenStatus(String token) {
-        TokenStatus status = jwtTokenProvider.validateTokenStatus(token);
+    /** RefreshToken 파싱 + 상태 검증 (TokenStatus 기반) */
+    private JwtClaims parseRefreshToken(String token) {
+        ParsedToken parsed = jwtTokenProvider.parse(token);
 
-        switch (status) {
+        switch (parsed.status()) {
             case EXPIRED -> throw new BusinessException(ErrorCode.EXPIRED_REFRESH_TOKEN);
             case INVALID -> throw new BusinessException(ErrorCode.INVALID_REFRESH_TOKEN);
             case VALID -> log.debug("[Auth] 토큰 유효성 검증 완료");
         }
+        return parsed.claims();
     }
 }
 
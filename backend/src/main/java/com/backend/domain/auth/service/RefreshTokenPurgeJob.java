@@ -0,0 +1,29 @@
+package com.backend.domain.auth.service;
+
+import com.backend.domain.auth.repository.RefreshTokenStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 만료된 RefreshToken 정리 (기본: 매일 새벽 4시)
+ * - 재발급에 사용된 토큰도 재사용 탐지를 위해 만료 전까지는 남겨두므로 주기적으로 지워야 테이블이 계속 커지지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenPurgeJob {
+
+    private final RefreshTokenStore refreshTokenStore;
+
+    @Scheduled(cron = "${custom.jwt.refresh-token.purge-cron:0 0 4 * * *}")
+    @Transactional
+    public void purgeExpired() {
+        int deleted = refreshTokenStore.deleteExpired(LocalDateTime.now());
+        log.info("[Auth] 만료된 RefreshToken 정리: {}건", deleted);
+    }
+}
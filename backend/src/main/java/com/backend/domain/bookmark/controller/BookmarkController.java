@@ -1,13 +1,12 @@
 package com.backend.domain.bookmark.controller;
 
-import com.backend.domain.auth.service.AuthService;
 import com.backend.domain.bookmark.dto.BookmarkRequestDto;
 import com.backend.domain.bookmark.dto.BookmarkResponseDto;
 import com.backend.domain.bookmark.service.BookmarkService;
 import com.backend.global.response.ApiResponse;
+import com.backend.global.security.CurrentMember;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -18,7 +17,6 @@ import java.util.List;
 public class BookmarkController {
 
     private final BookmarkService bookmarkService;
-    private final AuthService authService;
 
     /**
      * POST /api/bookmarks
@@ -26,11 +24,9 @@ public class BookmarkController {
      */
     @PostMapping
     public ApiResponse<BookmarkResponseDto> create(
-            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String accessToken,
+            @CurrentMember Long memberId,
             @Valid @RequestBody BookmarkRequestDto request) {
 
-        Long memberId = authService.getMemberId(accessToken);
-
         BookmarkResponseDto response = bookmarkService.create(request, memberId);
         return ApiResponse.created(response);
     }
@@ -40,9 +36,8 @@ public class BookmarkController {
      */
     @GetMapping
     public ApiResponse<List<BookmarkResponseDto>> list(
-            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String accessToken
+            @CurrentMember Long memberId
     ) {
-        Long memberId = authService.getMemberId(accessToken);
         List<BookmarkResponseDto> list = bookmarkService.getList(memberId);
         return ApiResponse.success(list);
     }
@@ -52,10 +47,8 @@ public class BookmarkController {
      */
     @DeleteMapping("/{bookmarkId}")
     public ApiResponse<Long> delete(
-            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String accessToken,
+            @CurrentMember Long memberId,
             @Valid @PathVariable Long bookmarkId) {
-
-        Long memberId = authService.getMemberId(accessToken);
         bookmarkService.delete(memberId, bookmarkId);
         return ApiResponse.success(bookmarkId);
     }
@@ -2,8 +2,12 @@ package com.backend.domain.member.repository;
 
 import com.backend.domain.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -15,4 +19,8 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     boolean existsByEmail(String email);
     boolean existsByNickname(String nickname);
 
+    // 탈퇴하지 않은 회원 id만 반환
+    @Query("SELECT m.id FROM Member m WHERE m.id IN :ids AND m.deletedAt IS NULL")
+    List<Long> findActiveIdsByIdIn(@Param("ids") Collection<Long> ids);
+
 }
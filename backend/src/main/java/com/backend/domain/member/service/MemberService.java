@@ -7,6 +7,7 @@ import com.backend.domain.member.entity.Member;
 import com.backend.domain.member.repository.MemberRepository;
 import com.backend.global.exception.BusinessException;
 import com.backend.global.response.ErrorCode;
+import com.backend.global.security.MemberRevocationRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -21,6 +22,7 @@ public class MemberService {
 
     private final MemberRepository memberRepository;
     private final PasswordEncoder passwordEncoder;
+    private final MemberRevocationRegistry memberRevocationRegistry;
 
     @Transactional
     public MemberResponse signup(MemberSignupRequest request) {
@@ -56,6 +58,7 @@ public class MemberService {
         }
 
         member.delete();
+        memberRevocationRegistry.revokeAfterCommit(member.getId());
         return MemberResponse.from(member);
     }
 
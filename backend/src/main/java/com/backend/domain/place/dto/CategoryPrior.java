@@ -0,0 +1,27 @@
+package com.backend.domain.place.dto;
+
+/**
+ * 카테고리 전체의 평점 집계 (가중 순위 계산용 사전 분포)
+ * - totalSum / totalCount : 카테고리 평균 평점
+ * - totalCount / placeCount : 여행지당 평균 리뷰 수
+ */
+public record CategoryPrior(long totalSum, long totalCount, long placeCount) {
+
+    public static final CategoryPrior EMPTY = new CategoryPrior(0L, 0L, 0L);
+
+    // 리뷰가 하나도 없으면 별점 중간값을 사전 평균으로 사용
+    private static final double DEFAULT_MEAN = 3.0;
+
+    public double mean() {
+        return totalCount == 0 ? DEFAULT_MEAN : (double) totalSum / totalCount;
+    }
+
+    // 리뷰 수가 이 값보다 적은 여행지는 카테고리 평균 쪽으로 끌어당겨짐
+    public double weight() {
+        return placeCount == 0 ? 1.0 : Math.max(1.0, (double) totalCount / placeCount);
+    }
+
+    public CategoryPrior plus(CategoryPrior other) {
+        return new CategoryPrior(totalSum + other.totalSum, totalCount + other.totalCount, placeCount + other.placeCount);
+    }
+}
@@ -0,0 +1,11 @@
+package com.backend.domain.place.dto;
+
+/**
+ * 카테고리 이름별 사전 분포 (순위표 준비 전 전체 카테고리 가중 순위 계산용)
+ */
+public record NamedCategoryPrior(String categoryName, long totalSum, long totalCount, long placeCount) {
+
+    public CategoryPrior prior() {
+        return new CategoryPrior(totalSum, totalCount, placeCount);
+    }
+}
@@ -0,0 +1,55 @@
+package com.backend.domain.place.dto;
+
+import com.backend.domain.place.entity.Place;
+
+/**
+ * 인메모리 순위표(PlaceLeaderboard)에 보관하는 여행지 스냅샷
+ * - 평점 집계와 추천 응답에 필요한 표시 정보만 담아 조회 시 DB 접근이 없도록 함
+ * - version 은 Place 의 @Version 값 (늦게 도착한 이전 커밋의 스냅샷을 걸러내는 데 사용)
+ */
+public record PlaceRankEntry(
+        Long placeId,
+        long ratingSum,
+        int ratingCount,
+        double ratingAvg,
+        String placeName,
+        String address,
+        String gu,
+        String category,
+        String description,
+        Long version
+) {
+    // category 지연 로딩이 발생하므로 트랜잭션 안에서 호출
+    public static PlaceRankEntry from(Place place) {
+        return new PlaceRankEntry(
+                place.getId(),
+                place.getRatingSum(),
+                place.getRatingCount(),
+                place.getRatingAvg(),
+                place.getPlaceName(),
+                place.getAddress(),
+                place.getGu(),
+                place.getCategory() != null ? place.getCategory().getName() : null,
+                place.getDescription(),
+                place.getVersion()
+        );
+    }
+
+    // 표시 정보는 그대로 두고 평점 집계와 version 만 교체
+    public PlaceRankEntry withRating(long ratingSum, int ratingCount, double ratingAvg, Long version) {
+        return new PlaceRankEntry(placeId, ratingSum, ratingCount, ratingAvg, placeName, address, gu, category, description, version);
+    }
+
+    public PlaceRankEntry withCategory(String category) {
+        return new PlaceRankEntry(placeId, ratingSum, ratingCount, ratingAvg, placeName, address, gu, category, description, version);
+    }
+
+    // 같은 여행지의 더 최근 커밋보다 이전 스냅샷인지
+    public boolean isOlderThan(PlaceRankEntry other) {
+        return version != null && other.version != null && version < other.version;
+    }
+
+    public PlaceRatingScore toScore() {
+        return new PlaceRatingScore(placeId, ratingSum, ratingCount, ratingAvg, category);
+    }
+}
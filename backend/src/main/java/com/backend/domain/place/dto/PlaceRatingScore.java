@@ -0,0 +1,13 @@
+package com.backend.domain.place.dto;
+
+/**
+ * 추천 순위 계산용 평점 집계 프로젝션 (Place 엔티티 전체를 읽지 않기 위함)
+ */
+public record PlaceRatingScore(
+        Long placeId,
+        long ratingSum,
+        int ratingCount,
+        double ratingAvg,
+        String category     // 카테고리별 사전 분포를 고르기 위함
+) {
+}
@@ -7,6 +7,10 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_place_category_rating_avg", columnList = "category_id, rating_avg"),
+        @Index(name = "idx_place_rating_avg", columnList = "rating_avg")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -33,15 +37,31 @@ public class Place {
     @Column(columnDefinition = "TEXT")
     private String description;
 
-    @Column(nullable = false)
+    @Column(name = "rating_sum", nullable = false)
     private long ratingSum = 0L;
 
-    @Column(nullable = false)
+    @Column(name = "rating_count", nullable = false)
     private int  ratingCount = 0;
 
-    @Column(nullable = false)
+    @Column(name = "rating_avg", nullable = false)
     private double ratingAvg = 0.0;
 
+    // 별점 분포 (1~5점 각각의 리뷰 수)
+    @Column(name = "rating1_count", nullable = false)
+    private int rating1Count;
+
+    @Column(name = "rating2_count", nullable = false)
+    private int rating2Count;
+
+    @Column(name = "rating3_count", nullable = false)
+    private int rating3Count;
+
+    @Column(name = "rating4_count", nullable = false)
+    private int rating4Count;
+
+    @Column(name = "rating5_count", nullable = false)
+    private int rating5Count;
+
     @Version private Long version; // 동시성 대비(낙관적 락)
 
     private LocalDateTime createdDate;
@@ -54,5 +74,54 @@ public class Place {
         this.description = description;
     }
 
+    // 리뷰 등록 시 평점 집계 반영
+    public void addRating(int rating) {
+        this.ratingSum += rating;
+        this.ratingCount++;
+        adjustHistogram(rating, 1);
+        recalculateRatingAvg();
+    }
+
+    // 리뷰 수정 시 기존 평점을 새 평점으로 교체
+    public void changeRating(int oldRating, int newRating) {
+        this.ratingSum += newRating - oldRating;
+        adjustHistogram(oldRating, -1);
+        adjustHistogram(newRating, 1);
+        recalculateRatingAvg();
+    }
+
+    // 리뷰 삭제 시 평점 집계에서 제외 (집계가 비어 있으면 0 아래로 내려가지 않음)
+    public void removeRating(int rating) {
+        if (ratingCount <= 1) {
+            this.ratingSum = 0L;
+            this.ratingCount = 0;
+        } else {
+            this.ratingSum = Math.max(0L, ratingSum - rating);
+            this.ratingCount--;
+        }
+        adjustHistogram(rating, -1);
+        recalculateRatingAvg();
+    }
+
+    // 1점부터 5점 순서의 별점 분포
+    public int[] getRatingHistogram() {
+        return new int[]{rating1Count, rating2Count, rating3Count, rating4Count, rating5Count};
+    }
+
+    // 범위 밖의 예전 별점은 분포에서 제외 (수정/삭제가 실패하지 않도록), 개수는 0 아래로 내려가지 않음
+    private void adjustHistogram(int rating, int delta) {
+        switch (rating) {
+            case 1 -> rating1Count = Math.max(0, rating1Count + delta);
+            case 2 -> rating2Count = Math.max(0, rating2Count + delta);
+            case 3 -> rating3Count = Math.max(0, rating3Count + delta);
+            case 4 -> rating4Count = Math.max(0, rating4Count + delta);
+            case 5 -> rating5Count = Math.max(0, rating5Count + delta);
+            default -> { }
+        }
+    }
+
+    private void recalculateRatingAvg() {
+        this.ratingAvg = ratingCount == 0 ? 0.0 : (double) ratingSum / ratingCount;
+    }
 
 }
\ No newline at end of file
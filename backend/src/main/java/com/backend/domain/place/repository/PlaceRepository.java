@@ -1,10 +1,23 @@
 // PlaceRepository.java
 package com.backend.domain.place.repository;
 
+import com.backend.domain.place.dto.CategoryPrior;
+import com.backend.domain.place.dto.NamedCategoryPrior;
+import com.backend.domain.place.dto.PlaceRatingScore;
 import com.backend.domain.place.entity.Place;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface PlaceRepository extends JpaRepository<Place, Long> {
     boolean existsByPlaceNameAndAddress(String placeName, String address);
@@ -13,4 +26,74 @@ public interface PlaceRepository extends JpaRepository<Place, Long> {
     Place getPlaceById(Long id);
 
     List<Place> findByCategory_Name(String name);
-}
\ No newline at end of file
+
+    // 평균 평점 순위 한 페이지 - (category_id, rating_avg) 인덱스를 역순으로 읽고 LIMIT/OFFSET 에서 멈춤
+    @Query("""
+SELECT p
+FROM Place p
+JOIN FETCH p.category c
+WHERE c.name = :name
+ORDER BY p.ratingAvg DESC, p.id DESC
+LIMIT :limit OFFSET :offset
+""")
+    List<Place> findTopByRatingAvg(@Param("name") String name, @Param("limit") int limit, @Param("offset") int offset);
+
+    @Query("""
+SELECT p
+FROM Place p
+JOIN FETCH p.category
+ORDER BY p.ratingAvg DESC, p.id DESC
+LIMIT :limit OFFSET :offset
+""")
+    List<Place> findTopOfAllByRatingAvg(@Param("limit") int limit, @Param("offset") int offset);
+
+    // 순위 계산용 평점 집계만 스트리밍 (트랜잭션 안에서 사용)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+SELECT new com.backend.domain.place.dto.PlaceRatingScore(p.id, p.ratingSum, p.ratingCount, p.ratingAvg, c.name)
+FROM Place p
+JOIN p.category c
+WHERE c.name = :name
+""")
+    Stream<PlaceRatingScore> streamRatingScoresByCategoryName(@Param("name") String name);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+SELECT new com.backend.domain.place.dto.PlaceRatingScore(p.id, p.ratingSum, p.ratingCount, p.ratingAvg, c.name)
+FROM Place p
+JOIN p.category c
+""")
+    Stream<PlaceRatingScore> streamAllRatingScores();
+
+    // 순위표 재구성 전 가중 순위 계산용 카테고리 사전 분포
+    @Query("""
+SELECT new com.backend.domain.place.dto.CategoryPrior(COALESCE(SUM(p.ratingSum), 0L), COALESCE(SUM(p.ratingCount), 0L), COUNT(p))
+FROM Place p
+WHERE p.category.name = :name
+""")
+    CategoryPrior findPriorByCategoryName(@Param("name") String name);
+
+    // 카테고리마다 자기 사전 분포를 쓰도록 (순위표의 priors() 와 같은 값)
+    @Query("""
+SELECT new com.backend.domain.place.dto.NamedCategoryPrior(c.name, COALESCE(SUM(p.ratingSum), 0L), COALESCE(SUM(p.ratingCount), 0L), COUNT(p))
+FROM Place p
+JOIN p.category c
+GROUP BY c.name
+""")
+    List<NamedCategoryPrior> findPriorsByCategory();
+
+    // 인메모리 순위표 재구성용 (트랜잭션 안에서 사용)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT p FROM Place p JOIN FETCH p.category")
+    Stream<Place> streamAllWithCategory();
+
+    @EntityGraph(attributePaths = "category")
+    Optional<Place> findWithCategoryById(Long id);
+
+    @Query("SELECT p.id FROM Place p WHERE p.id IN :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+    // 추천 결과 여행지를 카테고리와 함께 한 번에 조회
+    @EntityGraph(attributePaths = "category")
+    List<Place> findAllWithCategoryByIdIn(Collection<Long> ids);
+}
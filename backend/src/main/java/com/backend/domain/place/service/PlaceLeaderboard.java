@@ -0,0 +1,224 @@
+package com.backend.domain.place.service;
+
+import com.backend.domain.place.dto.CategoryPrior;
+import com.backend.domain.place.dto.PlaceRankEntry;
+import com.backend.domain.place.entity.Place;
+import com.backend.domain.place.repository.PlaceRepository;
+import com.backend.global.transaction.AfterCommit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+/**
+ * 카테고리별 인메모리 평점 순위표
+ * - 카테고리 이름("HOTEL", "맛집", "NIGHTSPOT" ...)별로 (평균 평점, placeId) 내림차순 skip-list 유지
+ * - 애플리케이션 기동 시 Place 집계 컬럼으로 재구성하고, 이후에는 리뷰/여행지 쓰기 시 커밋 후 갱신(write-through)
+ * - 상위 N개 조회는 skip-list 앞에서부터 N개를 읽으므로 O(N), DB 접근 없음
+ * - 카테고리별 평점 합계/개수/여행지 수(CategoryPrior)를 쓰기마다 증분 갱신
+ * - 커밋 후 반영 순서가 뒤바뀌어도 Place.version 이 더 낮은 스냅샷은 버림
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PlaceLeaderboard {
+
+    // 평균 평점 내림차순, 동점이면 placeId 내림차순
+    public static final Comparator<PlaceRankEntry> RANKING_ORDER =
+            Comparator.comparingDouble(PlaceRankEntry::ratingAvg)
+                    .thenComparing(PlaceRankEntry::placeId)
+                    .reversed();
+
+    private final PlaceRepository placeRepository;
+
+    private final Map<String, Board> boards = new ConcurrentHashMap<>();
+    private final Map<Long, Board> boardByPlaceId = new ConcurrentHashMap<>();
+
+    private volatile boolean ready = false;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        boards.clear();
+        boardByPlaceId.clear();
+
+        try (Stream<Place> places = placeRepository.streamAllWithCategory()) {
+            places.forEach(place -> put(PlaceRankEntry.from(place)));
+        }
+
+        ready = true;
+        log.info("[Leaderboard] 순위표 재구성 완료: categories={}, places={}", boards.size(), boardByPlaceId.size());
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public boolean hasCategory(String categoryName) {
+        return boards.containsKey(categoryName);
+    }
+
+    /** 카테고리 내 offset부터 limit개 */
+    public List<PlaceRankEntry> top(String categoryName, int offset, int limit) {
+        Board board = boards.get(categoryName);
+        if (board == null) {
+            return List.of();
+        }
+        return board.ranked.stream().skip(offset).limit(limit).toList();
+    }
+
+    /** 전체 카테고리 통합 순위 - 각 카테고리 상위 (offset + limit)개만 병합 */
+    public List<PlaceRankEntry> topAll(int offset, int limit) {
+        long capacity = (long) offset + limit;
+        List<PlaceRankEntry> merged = new ArrayList<>();
+        for (Board board : boards.values()) {
+            board.ranked.stream().limit(capacity).forEach(merged::add);
+        }
+        merged.sort(RANKING_ORDER);
+        return merged.stream().skip(offset).limit(limit).toList();
+    }
+
+    /** 카테고리 내 전체 항목 (정렬 순서) */
+    public Collection<PlaceRankEntry> entries(String categoryName) {
+        Board board = boards.get(categoryName);
+        return board == null ? List.of() : Collections.unmodifiableCollection(board.ranked);
+    }
+
+    /** 여행지 하나의 현재 항목 */
+    public Optional<PlaceRankEntry> find(Long placeId) {
+        Board board = boardByPlaceId.get(placeId);
+        return board == null ? Optional.empty() : Optional.ofNullable(board.entries.get(placeId));
+    }
+
+    /** 전체 카테고리 항목 */
+    public Stream<PlaceRankEntry> allEntries() {
+        return boards.values().stream().flatMap(board -> board.ranked.stream());
+    }
+
+    /** 카테고리 사전 분포 - 증분 유지되는 값을 그대로 반환 */
+    public CategoryPrior prior(String categoryName) {
+        Board board = boards.get(categoryName);
+        return board == null ? CategoryPrior.EMPTY : board.prior();
+    }
+
+    public Map<String, CategoryPrior> priors() {
+        Map<String, CategoryPrior> priors = new HashMap<>();
+        boards.forEach((name, board) -> priors.put(name, board.prior()));
+        return priors;
+    }
+
+    /** 리뷰 작성/수정/삭제 후 평점 집계만 반영 (커밋 이후) */
+    public void updateRatingAfterCommit(Place place) {
+        Long placeId = place.getId();
+        // 순위표에 없는 여행지만 표시 정보를 엔티티에서 읽음 (category 지연 로딩)
+        PlaceRankEntry fallback = find(placeId).isPresent() ? null : PlaceRankEntry.from(place);
+
+        AfterCommit.run(() -> {
+            PlaceRankEntry base = find(placeId).orElse(fallback);
+            if (base != null) {
+                put(committed(base, place));
+            }
+        });
+    }
+
+    /** 여행지 등록/수정 후 반영 (커밋 이후) */
+    public void upsertAfterCommit(Place place) {
+        PlaceRankEntry entry = PlaceRankEntry.from(place);
+        AfterCommit.run(() -> put(committed(entry, place)));
+    }
+
+    /** 여행지 삭제 후 제거 (커밋 이후) */
+    public void removeAfterCommit(Long placeId) {
+        AfterCommit.run(() -> remove(placeId));
+    }
+
+    /** 카테고리 이름 변경 시 순위표 키 이동 - 항목의 category 도 새 이름으로 바꿔야 이후 갱신이 옛 이름으로 새지 않음 */
+    public void renameCategoryAfterCommit(String oldName, String newName) {
+        AfterCommit.run(() -> renameCategory(oldName, newName));
+    }
+
+    // 커밋 후에는 flush 때 올라간 version 과 최종 평점 집계가 엔티티에 반영되어 있음
+    private static PlaceRankEntry committed(PlaceRankEntry base, Place place) {
+        return base.withRating(place.getRatingSum(), place.getRatingCount(), place.getRatingAvg(), place.getVersion());
+    }
+
+    private synchronized void renameCategory(String oldName, String newName) {
+        Board board = boards.remove(oldName);
+        if (board == null) {
+            return;
+        }
+        Board renamed = boards.computeIfAbsent(newName, name -> new Board());
+        for (PlaceRankEntry entry : List.copyOf(board.entries.values())) {
+            boardByPlaceId.put(entry.placeId(), renamed);
+            renamed.put(entry.withCategory(newName));
+        }
+    }
+
+    // 커밋 후 콜백끼리 순서가 바뀌는 경우를 막기 위해 쓰기는 직렬화
+    private synchronized void put(PlaceRankEntry entry) {
+        if (entry.category() == null) {
+            return;
+        }
+        PlaceRankEntry current = find(entry.placeId()).orElse(null);
+        if (current != null && entry.isOlderThan(current)) {
+            return;
+        }
+        Board board = boards.computeIfAbsent(entry.category(), name -> new Board());
+        Board previous = boardByPlaceId.put(entry.placeId(), board);
+        if (previous != null && previous != board) {
+            previous.remove(entry.placeId());
+        }
+        board.put(entry);
+    }
+
+    private synchronized void remove(Long placeId) {
+        Board board = boardByPlaceId.remove(placeId);
+        if (board != null) {
+            board.remove(placeId);
+        }
+    }
+
+    /** 카테고리 하나의 순위표 - 쓰기는 직렬화, 읽기는 락 없이 skip-list 순회 */
+    private static final class Board {
+        private final ConcurrentSkipListSet<PlaceRankEntry> ranked = new ConcurrentSkipListSet<>(RANKING_ORDER);
+        private final Map<Long, PlaceRankEntry> entries = new ConcurrentHashMap<>();
+
+        private long totalSum = 0L;
+        private long totalCount = 0L;
+
+        synchronized void put(PlaceRankEntry entry) {
+            PlaceRankEntry old = entries.put(entry.placeId(), entry);
+            if (old != null) {
+                ranked.remove(old);
+                subtract(old);
+            }
+            ranked.add(entry);
+            totalSum += entry.ratingSum();
+            totalCount += entry.ratingCount();
+        }
+
+        synchronized void remove(Long placeId) {
+            PlaceRankEntry old = entries.remove(placeId);
+            if (old != null) {
+                ranked.remove(old);
+                subtract(old);
+            }
+        }
+
+        synchronized CategoryPrior prior() {
+            return new CategoryPrior(totalSum, totalCount, entries.size());
+        }
+
+        private void subtract(PlaceRankEntry entry) {
+            totalSum -= entry.ratingSum();
+            totalCount -= entry.ratingCount();
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.backend.domain.place.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여행지 평점 집계 컬럼(합계/개수/평균/별점 분포)을 review 테이블 기준으로 다시 계산 (일회성 백필, 기본 꺼짐)
+ * - 집계 컬럼이 추가되기 전에 작성된 리뷰는 집계에 반영되어 있지 않으므로, 기존 DB 를 올릴 때 한 번만
+ *   custom.place.reconcile-ratings-on-startup=true 로 한 인스턴스를 띄우고 다시 끔
+ * - 집계가 review 와 다른 행만 갱신 (맞는 행은 version 도 그대로 -> 진행 중인 리뷰 쓰기가 재시도로 밀리지 않음)
+ * - ApplicationRunner 는 ApplicationReadyEvent 보다 먼저 실행되므로 순위표(PlaceLeaderboard) 재구성은 보정된 값으로 이루어짐
+ * - 바뀐 행은 version 을 올려 동시에 진행 중인 리뷰 트랜잭션이 낙관적 락 재시도로 새 값을 다시 읽게 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "custom.place.reconcile-ratings-on-startup", havingValue = "true")
+public class PlaceRatingReconciler implements ApplicationRunner {
+
+    private static final String RECONCILE_SQL = """
+            UPDATE place p
+            SET rating_sum = COALESCE((SELECT SUM(r.rating) FROM review r WHERE r.place_id = p.id), 0),
+                rating_count = (SELECT COUNT(*) FROM review r WHERE r.place_id = p.id),
+                rating_avg = COALESCE((SELECT AVG(r.rating * 1.0) FROM review r WHERE r.place_id = p.id), 0),
+                rating1_count = (SELECT COUNT(*) FROM review r WHERE r.place_id = p.id AND r.rating = 1),
+                rating2_count = (SELECT COUNT(*) FROM review r WHERE r.place_id = p.id AND r.rating = 2),
+                rating3_count = (SELECT COUNT(*) FROM review r WHERE r.place_id = p.id AND r.rating = 3),
+                rating4_count = (SELECT COUNT(*) FROM review r WHERE r.place_id = p.id AND r.rating = 4),
+                rating5_count = (SELECT COUNT(*) FROM review r WHERE r.place_id = p.id AND r.rating = 5),
+                version = COALESCE(p.version, 0) + 1
+            WHERE COALESCE(p.rating_sum, -1) <> COALESCE((SELECT SUM(r.rating) FROM review r WHERE r.place_id = p.id), 0)
+               OR COALESCE(p.rating_count, -1) <> (SELECT COUNT(*) FROM review r WHERE r.place_id = p.id)
+               OR COALESCE(p.rating1_count, -1) <> (SELECT COUNT(*) FROM review r WHERE r.place_id = p.id AND r.rating = 1)
+               OR COALESCE(p.rating2_count, -1) <> (SELECT COUNT(*) FROM review r WHERE r.place_id = p.id AND r.rating = 2)
+               OR COALESCE(p.rating3_count, -1) <> (SELECT COUNT(*) FROM review r WHERE r.place_id = p.id AND r.rating = 3)
+               OR COALESCE(p.rating4_count, -1) <> (SELECT COUNT(*) FROM review r WHERE r.place_id = p.id AND r.rating = 4)
+               OR COALESCE(p.rating5_count, -1) <> (SELECT COUNT(*) FROM review r WHERE r.place_id = p.id AND r.rating = 5)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int updated = jdbcTemplate.update(RECONCILE_SQL);
+        log.info("[Place] 평점 집계 백필 완료: places={} (완료 후 custom.place.reconcile-ratings-on-startup 을 끌 것)", updated);
+    }
+}
@@ -6,6 +6,7 @@ import com.backend.domain.place.dto.RequestPlaceDto;
 import com.backend.domain.place.dto.ResponsePlaceDto;
 import com.backend.domain.place.entity.Place;
 import com.backend.domain.place.repository.PlaceRepository;
+import com.backend.domain.review.service.TrendingPlaces;
 import com.backend.global.exception.BusinessException;
 import com.backend.global.response.ErrorCode;
 import jakarta.transaction.Transactional;
@@ -20,6 +21,8 @@ public class PlaceService {
 
     private final PlaceRepository placeRepository;
     private final CategoryRepository categoryRepository;
+    private final PlaceLeaderboard placeLeaderboard;
+    private final TrendingPlaces trendingPlaces;
 
     public Place findPlaceById(Long id) {
         return placeRepository.findById(id)
@@ -44,6 +47,7 @@ public class PlaceService {
         Place place = dto.toEntity(category);
 
         placeRepository.save(place);
+        placeLeaderboard.upsertAfterCommit(place);
     }
 
     @Transactional
@@ -56,6 +60,8 @@ public class PlaceService {
                 dto.gu(),
                 dto.description()
         );
+        placeLeaderboard.upsertAfterCommit(place);
+        trendingPlaces.placeUpdatedAfterCommit(place);
 
         return ResponsePlaceDto.from(place);
     }
@@ -63,6 +69,8 @@ public class PlaceService {
     @Transactional
     public void delete(Long id) {
         placeRepository.delete(findPlaceById(id));
+        placeLeaderboard.removeAfterCommit(id);
+        trendingPlaces.placeRemovedAfterCommit(id);
     }
 
 }
@@ -1,17 +1,18 @@
 package com.backend.domain.plan.detail.controller;
 
-import com.backend.domain.auth.service.AuthService;
+import com.backend.domain.plan.detail.dto.PlanDayReplaceRequestBody;
 import com.backend.domain.plan.detail.dto.PlanDetailRequestBody;
 import com.backend.domain.plan.detail.dto.PlanDetailResponseBody;
 import com.backend.domain.plan.detail.dto.PlanDetailsElementBody;
 import com.backend.domain.plan.detail.entity.PlanDetail;
+import com.backend.domain.plan.detail.service.PlanDetailBulkService;
 import com.backend.domain.plan.detail.service.PlanDetailService;
 import com.backend.global.response.ApiResponse;
+import com.backend.global.security.CurrentMember;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Null;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -21,14 +22,13 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PlanDetailController {
     private final PlanDetailService planDetailService;
-    private final AuthService authService;
+    private final PlanDetailBulkService planDetailBulkService;
 
     @PostMapping("/add")
     public ApiResponse<PlanDetailResponseBody> addPlanDetail(
-            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String accessToken,
+            @CurrentMember long memberPkId,
             @Valid @RequestBody PlanDetailRequestBody planDetailRequestBody
     ) {
-        long memberPkId = authService.getMemberId(accessToken);
         PlanDetail planDetail = planDetailService.addPlanDetail(planDetailRequestBody, memberPkId);
 
         return ApiResponse.created(
@@ -38,11 +38,9 @@ public class PlanDetailController {
 
     @GetMapping("/{planDetailId}")
     public ApiResponse<PlanDetailsElementBody> getPlanDetail(
-            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String accessToken,
+            @CurrentMember long memberPkId,
             @NotNull @PathVariable long planDetailId
     ) {
-        long memberPkId = authService.getMemberId(accessToken);
-
         PlanDetailsElementBody planDetailsElementBody = planDetailService.getPlanDetailById(planDetailId, memberPkId);
 
         return ApiResponse.success(
@@ -52,21 +50,18 @@ public class PlanDetailController {
 
     @GetMapping("/{planId}/list")
     public ApiResponse<List<PlanDetailsElementBody>> getAllPlanDetail(
-            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String accessToken,
+            @CurrentMember long memberPkId,
             @NotNull @PathVariable long planId
     ) {
-        long memberPkId = authService.getMemberId(accessToken);
-
         List<PlanDetailsElementBody> planDetailsElementBodies = planDetailService.getPlanDetailsByPlanId(planId, memberPkId);
         return ApiResponse.success(planDetailsElementBodies);
     }
 
     @GetMapping("/{planId}/todaylist")
     public ApiResponse<List<PlanDetailsElementBody>> getTodayPlanDetail(
-            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String accessToken,
+            @CurrentMember long memberPkId,
             @NotNull @PathVariable long planId
     ) {
-        long memberPkId = authService.getMemberId(accessToken);
         List<PlanDetailsElementBody> planDetailsElementBodies = planDetailService.getTodayPlanDetails(planId,memberPkId);
         return ApiResponse.success(planDetailsElementBodies);
     }
@@ -74,24 +69,32 @@ public class PlanDetailController {
 
     @PatchMapping("/update/{planDetailId}")
     public ApiResponse<PlanDetailResponseBody> updatePlanDetail(
-            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String accessToken,
+            @CurrentMember long memberPkId,
             @NotNull @PathVariable long planDetailId,
             @Valid @RequestBody PlanDetailRequestBody planDetailRequestBody
     ) {
-        long memberPkId = authService.getMemberId(accessToken);
-
         PlanDetailResponseBody planDetailResponseBody = planDetailService.updatePlanDetail(planDetailRequestBody, memberPkId, planDetailId);
         return ApiResponse.success(
                 planDetailResponseBody
         );
     }
 
+    // 하루 일정 전체 교체 (순서 변경/추가/삭제를 한 번에)
+    @PutMapping("/{planId}/day")
+    public ApiResponse<List<PlanDetailsElementBody>> replaceDay(
+            @CurrentMember long memberPkId,
+            @NotNull @PathVariable long planId,
+            @Valid @RequestBody PlanDayReplaceRequestBody planDayReplaceRequestBody
+    ) {
+        List<PlanDetailsElementBody> planDetailsElementBodies = planDetailBulkService.replaceDay(planId, planDayReplaceRequestBody, memberPkId);
+        return ApiResponse.success(planDetailsElementBodies);
+    }
+
     @DeleteMapping("/delete/{detailId}")
     public ApiResponse<Null> deletePlanDetail(
-            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String accessToken,
+            @CurrentMember long memberPkId,
             @NotNull @PathVariable long detailId
     ) {
-        long memberPkId = authService.getMemberId(accessToken);
         planDetailService.deletePlanDetail(detailId, memberPkId);
         return ApiResponse.success();
     }
@@ -0,0 +1,35 @@
+package com.backend.domain.plan.detail.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 하루 일정 전체 교체 요청
+ * - details 가 date 하루(시작 시각 기준)의 최종 상태: id 가 있으면 수정, 없으면 추가, 빠진 기존 일정은 삭제
+ */
+public record PlanDayReplaceRequestBody(
+        @NotNull(message = "날짜가 누락되었습니다.")
+        LocalDate date,
+        @NotNull
+        List<@Valid Element> details
+) {
+    public record Element(
+            Long id,
+            @NotNull(message = "장소가 누락되었습니다.")
+            Long placeId,
+            @NotNull
+            LocalDateTime startTime,
+            @NotNull
+            LocalDateTime endTime,
+            @NotEmpty
+            String title,
+            @NotEmpty
+            String content
+    ) {
+    }
+}
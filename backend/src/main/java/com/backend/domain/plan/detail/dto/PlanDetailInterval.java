@@ -0,0 +1,11 @@
+package com.backend.domain.plan.detail.dto;
+
+import java.time.LocalDateTime;
+
+// 겹침 검사용 상세 일정 구간 (id, 시작, 끝)
+public record PlanDetailInterval(
+        Long id,
+        LocalDateTime startTime,
+        LocalDateTime endTime
+) {
+}
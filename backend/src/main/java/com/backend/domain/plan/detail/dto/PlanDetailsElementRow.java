@@ -0,0 +1,21 @@
+package com.backend.domain.plan.detail.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 여러 계획의 상세 일정을 한 번에 읽을 때의 프로젝션 (계획별로 묶기 위해 planId 포함)
+ */
+public record PlanDetailsElementRow(
+        long planId,
+        long id,
+        long placeId,
+        String placeName,
+        LocalDateTime startTime,
+        LocalDateTime endTime,
+        String title,
+        String content
+) {
+    public PlanDetailsElementBody toElement() {
+        return new PlanDetailsElementBody(id, placeId, placeName, startTime, endTime, title, content);
+    }
+}
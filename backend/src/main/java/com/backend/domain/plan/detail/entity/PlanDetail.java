@@ -15,6 +15,7 @@ import java.time.LocalDateTime;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = @Index(name = "idx_plan_detail_plan_time", columnList = "plan_id, start_time, end_time"))
 public class PlanDetail {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -1,5 +1,8 @@
 package com.backend.domain.plan.detail.repository;
 
+import com.backend.domain.plan.detail.dto.PlanDetailInterval;
+import com.backend.domain.plan.detail.dto.PlanDetailsElementBody;
+import com.backend.domain.plan.detail.dto.PlanDetailsElementRow;
 import com.backend.domain.plan.detail.entity.PlanDetail;
 import com.backend.domain.plan.entity.Plan;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -7,6 +10,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,20 +19,72 @@ public interface PlanDetailRepository extends JpaRepository<PlanDetail, Long> {
 
     List<PlanDetail> getPlanDetailsByPlanId(Long planId);
 
+    // 겹침 검사용 구간만 조회 - idx_plan_detail_plan_time (plan_id, start_time, end_time) 만으로 처리
     @Query("""
-SELECT COUNT(pd)>0
+SELECT new com.backend.domain.plan.detail.dto.PlanDetailInterval(pd.id, pd.startTime, pd.endTime)
 FROM PlanDetail pd
 WHERE pd.plan.id = :planId
-AND NOT (:endTime < pd.startTime OR :startTime > pd.endTime)
-AND (:#{#detailId} IS NULL OR pd.id != :detailId)
+ORDER BY pd.startTime
 """)
-    boolean existsOverlapping(
-            @Param("planId")long planId,
-            @Param("endTime")LocalDateTime startTime,
-            @Param("startTime")LocalDateTime endTime,
-            @Param("detailId")Long detailId
+    List<PlanDetailInterval> findIntervalsByPlanId(@Param("planId") long planId);
+
+    // 상세 일정 목록 - 장소 이름까지 한 번에 (place 지연 로딩으로 행마다 쿼리가 나가지 않도록)
+    @Query("""
+SELECT new com.backend.domain.plan.detail.dto.PlanDetailsElementBody(
+    pd.id, p.id, p.placeName, pd.startTime, pd.endTime, pd.title, pd.content)
+FROM PlanDetail pd
+JOIN pd.place p
+WHERE pd.plan.id = :planId
+ORDER BY pd.startTime
+""")
+    List<PlanDetailsElementBody> findElementsByPlanId(@Param("planId") long planId);
+
+    // [from, to) 구간과 겹치는 상세 일정 (예: 오늘 하루)
+    @Query("""
+SELECT new com.backend.domain.plan.detail.dto.PlanDetailsElementBody(
+    pd.id, p.id, p.placeName, pd.startTime, pd.endTime, pd.title, pd.content)
+FROM PlanDetail pd
+JOIN pd.place p
+WHERE pd.plan.id = :planId
+AND pd.startTime < :to
+AND pd.endTime > :from
+ORDER BY pd.startTime
+""")
+    List<PlanDetailsElementBody> findElementsByPlanIdBetween(
+            @Param("planId") long planId,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
     );
 
+    // 여러 계획의 [from, to) 구간 상세 일정을 한 번에 (오늘 진행 중인 계획들)
+    @Query("""
+SELECT new com.backend.domain.plan.detail.dto.PlanDetailsElementRow(
+    pd.plan.id, pd.id, p.id, p.placeName, pd.startTime, pd.endTime, pd.title, pd.content)
+FROM PlanDetail pd
+JOIN pd.place p
+WHERE pd.plan.id IN :planIds
+AND pd.startTime < :to
+AND pd.endTime > :from
+ORDER BY pd.startTime
+""")
+    List<PlanDetailsElementRow> findElementsByPlanIdInBetween(
+            @Param("planIds") Collection<Long> planIds,
+            @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to
+    );
+
+    @Query("""
+SELECT new com.backend.domain.plan.detail.dto.PlanDetailsElementBody(
+    pd.id, p.id, p.placeName, pd.startTime, pd.endTime, pd.title, pd.content)
+FROM PlanDetail pd
+JOIN pd.place p
+WHERE pd.id = :planDetailId
+""")
+    Optional<PlanDetailsElementBody> findElementById(@Param("planDetailId") long planDetailId);
+
+    @Query("SELECT pd.plan.id FROM PlanDetail pd WHERE pd.id = :planDetailId")
+    Optional<Long> findPlanIdById(@Param("planDetailId") long planDetailId);
+
     void deletePlanDetailsByPlan(Plan plan);
 
     List<PlanDetail> getPlanDetailsByMemberId(Long memberId);
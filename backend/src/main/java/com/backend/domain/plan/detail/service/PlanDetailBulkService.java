@@ -0,0 +1,171 @@
+package com.backend.domain.plan.detail.service;
+
+import com.backend.domain.place.repository.PlaceRepository;
+import com.backend.domain.plan.detail.dto.PlanDayReplaceRequestBody;
+import com.backend.domain.plan.detail.dto.PlanDayReplaceRequestBody.Element;
+import com.backend.domain.plan.detail.dto.PlanDetailInterval;
+import com.backend.domain.plan.detail.dto.PlanDetailsElementBody;
+import com.backend.domain.plan.detail.entity.PlanDetail;
+import com.backend.domain.plan.detail.repository.PlanDetailRepository;
+import com.backend.domain.plan.entity.Plan;
+import com.backend.domain.plan.service.PlanAccessCache;
+import com.backend.domain.plan.service.PlanService;
+import com.backend.global.exception.BusinessException;
+import com.backend.global.response.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 하루 일정 일괄 교체
+ * - 권한(PlanAccessCache)/계획/장소 확인은 요청당 한 번씩 (장소는 IN 쿼리 한 번)
+ * - 겹침 검사는 계획 전체(다른 날 일정 + 교체 후 하루 일정)를 시작 시각 순으로 정렬해 한 번 훑어서 처리
+ * - 기존 일정과 비교해 바뀐 것만 삭제/수정/추가를 JdbcTemplate 배치로 한 트랜잭션에 반영
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PlanDetailBulkService {
+
+    private static final String INSERT_DETAIL_SQL = """
+            INSERT INTO plan_detail (plan_id, place_id, member_id, start_time, end_time, title, content)
+            VALUES (?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPDATE_DETAIL_SQL = """
+            UPDATE plan_detail
+            SET place_id = ?, start_time = ?, end_time = ?, title = ?, content = ?
+            WHERE id = ? AND plan_id = ?
+            """;
+
+    private static final String DELETE_DETAIL_SQL = "DELETE FROM plan_detail WHERE id = ? AND plan_id = ?";
+
+    private final PlanService planService;
+    private final PlanAccessCache planAccessCache;
+    private final PlanDetailRepository planDetailRepository;
+    private final PlaceRepository placeRepository;
+    private final PlanIntervalIndex planIntervalIndex;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Transactional
+    public List<PlanDetailsElementBody> replaceDay(long planId, PlanDayReplaceRequestBody requestBody, long memberPkId) {
+        // 권한 확인(캐시)을 먼저 -> 권한 없는 요청이 계획 행을 잠그지 못하도록
+        planAccessCache.checkAvailable(planId, memberPkId);
+        Plan plan = planService.getPlanByIdForUpdate(planId);
+
+        LocalDate date = requestBody.date();
+        List<Element> elements = requestBody.details();
+        elements.forEach(element -> checkValidTime(element, plan, date));
+        checkPlacesExist(elements);
+
+        // 교체 대상(해당 날짜 일정)과 그대로 두는 일정(다른 날짜) 분리
+        Map<Long, PlanDetail> dayDetails = new HashMap<>();
+        List<PlanDetailInterval> intervals = new ArrayList<>();
+        for (PlanDetail detail : planDetailRepository.getPlanDetailsByPlanId(planId)) {
+            if (detail.getStartTime().toLocalDate().equals(date)) {
+                dayDetails.put(detail.getId(), detail);
+            } else {
+                intervals.add(new PlanDetailInterval(detail.getId(), detail.getStartTime(), detail.getEndTime()));
+            }
+        }
+
+        // 요청과 기존 일정 비교 -> 수정/추가, 요청에 없는 기존 일정은 삭제
+        List<Object[]> updates = new ArrayList<>();
+        List<Object[]> inserts = new ArrayList<>();
+        for (Element element : elements) {
+            intervals.add(new PlanDetailInterval(element.id(), element.startTime(), element.endTime()));
+            if (element.id() == null) {
+                inserts.add(new Object[]{planId, element.placeId(), memberPkId,
+                        Timestamp.valueOf(element.startTime()), Timestamp.valueOf(element.endTime()),
+                        element.title(), element.content()});
+                continue;
+            }
+            PlanDetail existing = dayDetails.remove(element.id());
+            if (existing == null) {
+                throw new BusinessException(ErrorCode.NOT_FOUND_DETAIL_PLAN);
+            }
+            if (isChanged(existing, element)) {
+                updates.add(new Object[]{element.placeId(),
+                        Timestamp.valueOf(element.startTime()), Timestamp.valueOf(element.endTime()),
+                        element.title(), element.content(), element.id(), planId});
+            }
+        }
+        List<Object[]> deletes = dayDetails.keySet().stream()
+                .map(id -> new Object[]{id, planId})
+                .toList();
+
+        checkNoOverlap(intervals);
+
+        // 순서: 삭제 -> 수정 -> 추가
+        jdbcTemplate.batchUpdate(DELETE_DETAIL_SQL, deletes);
+        jdbcTemplate.batchUpdate(UPDATE_DETAIL_SQL, updates);
+        jdbcTemplate.batchUpdate(INSERT_DETAIL_SQL, inserts);
+        planIntervalIndex.invalidateAfterCommit(plan);
+
+        log.info("[PlanDetail] 하루 일정 교체: planId={}, date={}, deleted={}, updated={}, inserted={}",
+                planId, date, deletes.size(), updates.size(), inserts.size());
+
+        // 프로젝션은 영속성 컨텍스트를 거치지 않으므로 JDBC 로 바꾼 내용이 그대로 보임
+        return planDetailRepository.findElementsByPlanIdBetween(planId, date.atStartOfDay(), date.plusDays(1).atStartOfDay()).stream()
+                .filter(element -> element.startTime().toLocalDate().equals(date))
+                .toList();
+    }
+
+    // 정렬 후 한 번 훑으면서, 앞선 일정들의 가장 늦은 종료 시각보다 먼저 시작하면 겹침 ([시작, 끝) 기준)
+    private void checkNoOverlap(List<PlanDetailInterval> intervals) {
+        intervals.sort(Comparator.comparing(PlanDetailInterval::startTime));
+        LocalDateTime latestEnd = null;
+        for (PlanDetailInterval interval : intervals) {
+            if (latestEnd != null && interval.startTime().isBefore(latestEnd)) {
+                throw new BusinessException(ErrorCode.CONFLICT_TIME);
+            }
+            if (latestEnd == null || interval.endTime().isAfter(latestEnd)) {
+                latestEnd = interval.endTime();
+            }
+        }
+    }
+
+    private void checkValidTime(Element element, Plan plan, LocalDate date) {
+        if (!element.startTime().isBefore(element.endTime())) {
+            throw new BusinessException(ErrorCode.NOT_VALID_DATE);
+        }
+        // 교체하는 날짜의 일정만
+        if (!element.startTime().toLocalDate().equals(date)) {
+            throw new BusinessException(ErrorCode.NOT_VALID_DATE);
+        }
+        //계획 안의 시간인지
+        if (element.startTime().isBefore(plan.getStartDate()) || element.endTime().isAfter(plan.getEndDate())) {
+            throw new BusinessException(ErrorCode.NOT_VALID_DATE);
+        }
+        // 지금으로부터 10년 뒤 까지만 계획 설정 가능
+        if (element.startTime().isAfter(LocalDateTime.now().plusYears(10))) {
+            throw new BusinessException(ErrorCode.NOT_VALID_DATE);
+        }
+    }
+
+    private void checkPlacesExist(List<Element> elements) {
+        Set<Long> placeIds = new HashSet<>();
+        elements.forEach(element -> placeIds.add(element.placeId()));
+        if (placeIds.isEmpty()) {
+            return;
+        }
+        if (placeRepository.findIdsByIdIn(placeIds).size() != placeIds.size()) {
+            throw new BusinessException(ErrorCode.NOT_FOUND_PLACE);
+        }
+    }
+
+    private boolean isChanged(PlanDetail existing, Element element) {
+        return !existing.getPlace().getId().equals(element.placeId())
+                || !existing.getStartTime().equals(element.startTime())
+                || !existing.getEndTime().equals(element.endTime())
+                || !existing.getTitle().equals(element.title())
+                || !existing.getContent().equals(element.content());
+    }
+}
@@ -1,16 +1,16 @@
 package com.backend.domain.plan.detail.service;
 
 import com.backend.domain.member.entity.Member;
-import com.backend.domain.member.service.MemberService;
 import com.backend.domain.place.entity.Place;
 import com.backend.domain.place.service.PlaceService;
+import com.backend.domain.plan.detail.dto.PlanDetailInterval;
 import com.backend.domain.plan.detail.dto.PlanDetailRequestBody;
 import com.backend.domain.plan.detail.dto.PlanDetailResponseBody;
 import com.backend.domain.plan.detail.dto.PlanDetailsElementBody;
 import com.backend.domain.plan.detail.entity.PlanDetail;
 import com.backend.domain.plan.detail.repository.PlanDetailRepository;
 import com.backend.domain.plan.entity.Plan;
-import com.backend.domain.plan.service.PlanMemberService;
+import com.backend.domain.plan.service.PlanAccessCache;
 import com.backend.domain.plan.service.PlanService;
 import com.backend.global.exception.BusinessException;
 import com.backend.global.response.ErrorCode;
@@ -18,100 +18,100 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.List;
 
 @Service
 @RequiredArgsConstructor
 public class PlanDetailService {
     private final PlanService planService;
-    private final PlanMemberService planMemberService;
-    private final MemberService memberService;
+    private final PlanAccessCache planAccessCache;
     private final PlaceService placeService;
 
     private final PlanDetailRepository planDetailRepository;
+    private final PlanIntervalIndex planIntervalIndex;
 
     @Transactional
     public PlanDetail addPlanDetail(PlanDetailRequestBody requestBody, long memberPkId) {
-        Member member = getAvailableMember(requestBody.planId(),memberPkId);
-        Plan plan = planService.getPlanById(requestBody.planId());
+        // 권한 확인(캐시)을 먼저 -> 권한 없는 요청이 계획 행을 잠그지 못하도록
+        planAccessCache.checkAvailable(requestBody.planId(), memberPkId);
+        Plan plan = planService.getPlanByIdForUpdate(requestBody.planId());
+        Member member = Member.builder().id(memberPkId).build();
         Place place = placeService.findPlaceById(requestBody.placeId());
 
         PlanDetail planDetail = new PlanDetail(member, plan, place, requestBody);
         checkValidTime(requestBody, plan,planDetail);
         PlanDetail savedPlanDetail = this.planDetailRepository.save(planDetail);
+        planIntervalIndex.addAfterCommit(plan, toInterval(savedPlanDetail));
         return savedPlanDetail;
     }
 
 
     public PlanDetailsElementBody getPlanDetailById(long planDetailId, long memberPkId) {
-        PlanDetail planDetail = getPlanDetailById(planDetailId);
-        getAvailableMember(planDetail.getPlan().getId(), memberPkId);
+        long planId = planDetailRepository.findPlanIdById(planDetailId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_DETAIL_PLAN));
+        planAccessCache.checkAvailable(planId, memberPkId);
 
-        return new PlanDetailsElementBody(planDetail);
+        return planDetailRepository.findElementById(planDetailId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_DETAIL_PLAN));
     }
 
-    @Transactional
+    // 장소 이름까지 프로젝션 한 번으로 조회 (시작 시간 순)
     public List<PlanDetailsElementBody> getPlanDetailsByPlanId(long planId, long memberPkId) {
-        getAvailableMember(planId, memberPkId);
-
-        List<PlanDetail> planDetails = planDetailRepository.getPlanDetailsByPlanId(planId);
-
-        List<PlanDetailsElementBody> planDetailList = planDetails.stream().map(PlanDetailsElementBody::new).toList();
-
-        return planDetailList;
+        planAccessCache.checkAvailable(planId, memberPkId);
+        return planDetailRepository.findElementsByPlanId(planId);
     }
 
-
+    // 오늘과 겹치는 상세 일정 (시작 시간 순)
     public List<PlanDetailsElementBody> getTodayPlanDetails(long planId ,long memberPkId) {
-        getAvailableMember(planId, memberPkId);
-        List<PlanDetail> planDetails = planDetailRepository.getPlanDetailsByPlanId(planId);
-        return planDetails.stream().filter(planDetail ->
-                planDetail.getEndTime().isAfter(LocalDateTime.now().toLocalDate().atStartOfDay()) && planDetail.getStartTime().isBefore(LocalDateTime.now().toLocalDate().atTime(LocalTime.MAX)
-            )
-        ).map(PlanDetailsElementBody::new).toList();
+        planAccessCache.checkAvailable(planId, memberPkId);
+        LocalDateTime todayStart = LocalDate.now().atStartOfDay();
+        return planDetailRepository.findElementsByPlanIdBetween(planId, todayStart, todayStart.plusDays(1));
     }
 
     @Transactional
     public PlanDetailResponseBody updatePlanDetail(PlanDetailRequestBody planDetailRequestBody, long memberPkId, long planDetailId) {
-        getAvailableMember(planDetailRequestBody.planId(), memberPkId);
+        planAccessCache.checkAvailable(planDetailRequestBody.planId(), memberPkId);
+        Plan plan = planService.getPlanByIdForUpdate(planDetailRequestBody.planId());
 
         Place place = placeService.findPlaceById(planDetailRequestBody.placeId());
         PlanDetail planDetail = getPlanDetailById(planDetailId);
-        checkValidTime(planDetailRequestBody, planService.getPlanById(planDetailRequestBody.planId()), planDetail);
+        // 다른 계획의 상세 일정은 수정 불가
+        if (planDetail.getPlan().getId() != planDetailRequestBody.planId()) {
+            throw new BusinessException(ErrorCode.NOT_FOUND_DETAIL_PLAN);
+        }
+        checkValidTime(planDetailRequestBody, plan, planDetail);
         planDetail.updatePlanDetail(planDetailRequestBody, place);
         planDetailRepository.save(planDetail);
+        planIntervalIndex.updateAfterCommit(plan, toInterval(planDetail));
         return new PlanDetailResponseBody(planDetail);
     }
 
     @Transactional
     public void deletePlanDetail(long planDetailId, long memberPkId) {
         PlanDetail planDetail = getPlanDetailById(planDetailId);
-        getAvailableMember(planDetail.getPlan().getId(), memberPkId);
+        planAccessCache.checkAvailable(planDetail.getPlan().getId(), memberPkId);
+        Plan plan = planService.getPlanByIdForUpdate(planDetail.getPlan().getId());
         planDetailRepository.deleteById(planDetailId);
+        planIntervalIndex.removeAfterCommit(plan, planDetailId);
     }
 
 
 
+    private PlanDetailInterval toInterval(PlanDetail planDetail) {
+        return new PlanDetailInterval(planDetail.getId(), planDetail.getStartTime(), planDetail.getEndTime());
+    }
+
     private PlanDetail getPlanDetailById(long planDetailId) {
         return planDetailRepository.getPlanDetailById(planDetailId).orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_DETAIL_PLAN));
     }
 
 
-    private Member getAvailableMember(long planId, long memberPkId) {
-        Member member = memberService.findById(memberPkId);
-        Plan plan = planService.getPlanById(planId);
-        if (!planMemberService.isAvailablePlanMember(planId, member)) {
-            throw new BusinessException(ErrorCode.NOT_ALLOWED_MEMBER);
-        }
-        return member;
-    }
-
     //시간이 유효한 시간인지
     private void checkValidTime(PlanDetailRequestBody planDetailRequestBody, Plan plan,PlanDetail planDetail) {
-        // 계획 내에서 시간이 겹치지 않는지 검사
-        if (planDetailRepository.existsOverlapping(planDetailRequestBody.planId(), planDetailRequestBody.startTime(), planDetailRequestBody.endTime(), planDetail.getId())) {
+        // 계획 내에서 시간이 겹치지 않는지 검사 (계획별 구간 인덱스, 수정 중인 자기 자신은 제외)
+        if (planIntervalIndex.overlaps(plan, planDetailRequestBody.startTime(), planDetailRequestBody.endTime(), planDetail.getId())) {
             throw new BusinessException(ErrorCode.CONFLICT_TIME);
         }
 
@@ -0,0 +1,91 @@
+package com.backend.domain.plan.detail.service;
+
+import com.backend.domain.plan.detail.dto.PlanDetailInterval;
+import com.backend.domain.plan.detail.repository.PlanDetailRepository;
+import com.backend.domain.plan.entity.Plan;
+import com.backend.global.transaction.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 계획별 상세 일정 구간 인덱스 (겹침 검사 O(log n))
+ * - 검사와 변경은 모두 계획 행을 잠근(SELECT ... FOR UPDATE) 트랜잭션 안에서만 함
+ * - 인덱스는 Plan.detailVersion 과 함께 보관하고, 잠근 계획의 detailVersion 과 다르면 (다른 인스턴스/트랜잭션의 변경)
+ *   (plan_id, start_time, end_time) 인덱스로 구간을 다시 읽음 -> 인스턴스가 여러 개여도 오래된 인덱스로 검사하지 않음
+ * - 이 인스턴스에서의 추가/수정/삭제는 detailVersion 을 올리고, 커밋 이후 캐시된 인덱스에 바로 반영 (DB 를 다시 읽지 않음)
+ * - 구간은 [시작, 끝) 이므로 10:00~11:00 과 11:00~12:00 처럼 이어지는 일정은 겹치지 않음
+ */
+@Component
+public class PlanIntervalIndex {
+
+    private static final long MAX_PLANS = 10_000;
+
+    private final PlanDetailRepository planDetailRepository;
+    private final Cache<Long, PlanIntervals> intervalsByPlanId;
+
+    public PlanIntervalIndex(PlanDetailRepository planDetailRepository,
+                             @Value("${custom.plan.interval-index-ttl:10m}") Duration ttl) {
+        this.planDetailRepository = planDetailRepository;
+        this.intervalsByPlanId = Caffeine.newBuilder()
+                .maximumSize(MAX_PLANS)
+                .expireAfterAccess(ttl)
+                .build();
+    }
+
+    /** 잠근 계획 안에 [startTime, endTime) 와 겹치는 상세 일정이 있는지 (excludeDetailId 는 제외 - 수정 시 자기 자신) */
+    public boolean overlaps(Plan plan, LocalDateTime startTime, LocalDateTime endTime, Long excludeDetailId) {
+        return current(plan).overlaps(startTime, endTime, excludeDetailId);
+    }
+
+    /** 상세 일정 추가 (저장 후 id 가 있는 구간) */
+    public void addAfterCommit(Plan plan, PlanDetailInterval added) {
+        changeAfterCommit(plan, null, added);
+    }
+
+    /** 상세 일정 수정 (같은 id 의 구간을 교체) */
+    public void updateAfterCommit(Plan plan, PlanDetailInterval updated) {
+        changeAfterCommit(plan, updated.id(), updated);
+    }
+
+    /** 상세 일정 삭제 */
+    public void removeAfterCommit(Plan plan, long detailId) {
+        changeAfterCommit(plan, detailId, null);
+    }
+
+    /** 여러 건을 한 번에 바꾼 경우 (일괄 교체) - 버전만 올리고 다음 검사 때 다시 읽음 */
+    public void invalidateAfterCommit(Plan plan) {
+        plan.increaseDetailVersion();
+        invalidateAfterCommit(plan.getId());
+    }
+
+    /** 계획 삭제 */
+    public void invalidateAfterCommit(long planId) {
+        AfterCommit.run(() -> intervalsByPlanId.invalidate(planId));
+    }
+
+    private PlanIntervals current(Plan plan) {
+        PlanIntervals intervals = intervalsByPlanId.getIfPresent(plan.getId());
+        if (intervals == null || intervals.version() != plan.getDetailVersion()) {
+            intervals = PlanIntervals.of(plan.getDetailVersion(), planDetailRepository.findIntervalsByPlanId(plan.getId()));
+            intervalsByPlanId.put(plan.getId(), intervals);
+        }
+        return intervals;
+    }
+
+    // 이전 버전의 인덱스가 남아 있을 때만 반영 (그 사이 다시 읽은 인덱스는 그대로 둠 - 버전 비교로 걸러짐)
+    private void changeAfterCommit(Plan plan, Long removedId, PlanDetailInterval added) {
+        long planId = plan.getId();
+        long previousVersion = plan.getDetailVersion();
+        plan.increaseDetailVersion();
+        long version = plan.getDetailVersion();
+        AfterCommit.run(() -> intervalsByPlanId.asMap().computeIfPresent(planId,
+                (id, intervals) -> intervals.version() == previousVersion
+                        ? intervals.apply(version, removedId, added)
+                        : intervals));
+    }
+}
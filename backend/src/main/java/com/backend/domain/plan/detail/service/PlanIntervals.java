@@ -0,0 +1,107 @@
+package com.backend.domain.plan.detail.service;
+
+import com.backend.domain.plan.detail.dto.PlanDetailInterval;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 한 계획의 상세 일정 구간 (시작 시각 순) + 앞에서부터 i 번째까지의 최대 종료 시각
+ * - 수정 시 자기 자신을 빼고 봐야 하므로 최대값의 id 와 (다른 구간 중) 두 번째 최대값도 함께 보관
+ * - version 은 만들 때 기준이 된 Plan.detailVersion (PlanIntervalIndex 가 최신 여부 비교)
+ * - 불변 객체이므로 추가/수정/삭제는 새 인스턴스를 만들어 교체
+ */
+final class PlanIntervals {
+
+    private final long version;
+    private final List<PlanDetailInterval> intervals;
+    private final LocalDateTime[] starts;
+    private final LocalDateTime[] maxEnds;
+    private final long[] maxEndIds;
+    private final LocalDateTime[] secondMaxEnds;
+
+    private PlanIntervals(long version, List<PlanDetailInterval> intervals) {
+        int size = intervals.size();
+        this.version = version;
+        this.intervals = intervals;
+        this.starts = new LocalDateTime[size];
+        this.maxEnds = new LocalDateTime[size];
+        this.maxEndIds = new long[size];
+        this.secondMaxEnds = new LocalDateTime[size];
+    }
+
+    // intervals 는 startTime 순으로 정렬되어 있어야 함
+    static PlanIntervals of(long version, List<PlanDetailInterval> intervals) {
+        PlanIntervals index = new PlanIntervals(version, List.copyOf(intervals));
+        LocalDateTime maxEnd = null;
+        long maxEndId = 0;
+        LocalDateTime secondMaxEnd = null;
+
+        for (int i = 0; i < intervals.size(); i++) {
+            PlanDetailInterval interval = intervals.get(i);
+            LocalDateTime end = interval.endTime();
+            if (maxEnd == null || end.isAfter(maxEnd)) {
+                secondMaxEnd = maxEnd;
+                maxEnd = end;
+                maxEndId = interval.id();
+            } else if (secondMaxEnd == null || end.isAfter(secondMaxEnd)) {
+                secondMaxEnd = end;
+            }
+            index.starts[i] = interval.startTime();
+            index.maxEnds[i] = maxEnd;
+            index.maxEndIds[i] = maxEndId;
+            index.secondMaxEnds[i] = secondMaxEnd;
+        }
+        return index;
+    }
+
+    long version() {
+        return version;
+    }
+
+    /** removedId 구간을 빼고 added 구간(null 이면 없음)을 넣은 새 인덱스 - DB 를 다시 읽지 않음 */
+    PlanIntervals apply(long newVersion, Long removedId, PlanDetailInterval added) {
+        List<PlanDetailInterval> next = new ArrayList<>(intervals.size() + 1);
+        for (PlanDetailInterval interval : intervals) {
+            if (!Objects.equals(interval.id(), removedId)) {
+                next.add(interval);
+            }
+        }
+        if (added != null) {
+            next.add(added);
+            next.sort(Comparator.comparing(PlanDetailInterval::startTime));
+        }
+        return of(newVersion, next);
+    }
+
+    /** [startTime, endTime) 와 겹치는 구간이 있는지 (excludeDetailId 는 제외 - 수정 시 자기 자신) */
+    boolean overlaps(LocalDateTime startTime, LocalDateTime endTime, Long excludeDetailId) {
+        // endTime 보다 먼저 시작하는 구간 수 (이 구간들만 겹칠 수 있음)
+        int count = countStartsBefore(endTime);
+        if (count == 0) {
+            return false;
+        }
+        int last = count - 1;
+        LocalDateTime latestEnd = excludeDetailId != null && maxEndIds[last] == excludeDetailId
+                ? secondMaxEnds[last]
+                : maxEnds[last];
+        return latestEnd != null && latestEnd.isAfter(startTime);
+    }
+
+    private int countStartsBefore(LocalDateTime time) {
+        int low = 0;
+        int high = starts.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (starts[mid].isBefore(time)) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,19 @@
+package com.backend.domain.plan.dto;
+
+// 계획 접근 권한 (계획 작성자 id, 초대 상태: null 이면 멤버 아님 / 0 초대됨 / 1 승낙 / -1 거절)
+public record PlanAccess(
+        Long ownerId,
+        Integer inviteStatus
+) {
+    public boolean isOwner(long memberId) {
+        return ownerId != null && ownerId == memberId;
+    }
+
+    public boolean isMember() {
+        return inviteStatus != null;
+    }
+
+    public boolean isConfirmed() {
+        return inviteStatus != null && inviteStatus == 1;
+    }
+}
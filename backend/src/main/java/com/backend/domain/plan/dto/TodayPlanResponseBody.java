@@ -0,0 +1,12 @@
+package com.backend.domain.plan.dto;
+
+import com.backend.domain.plan.detail.dto.PlanDetailsElementBody;
+
+import java.util.List;
+
+// 오늘 진행 중인 계획 + 오늘 겹치는 상세 일정
+public record TodayPlanResponseBody(
+        PlanResponseBody plan,
+        List<PlanDetailsElementBody> details
+) {
+}
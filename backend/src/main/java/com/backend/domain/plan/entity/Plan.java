@@ -4,6 +4,7 @@ import com.backend.domain.member.entity.Member;
 import com.backend.domain.plan.dto.PlanUpdateRequestBody;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -44,6 +45,11 @@ public class Plan {
     @OneToMany(mappedBy = "plan", fetch = FetchType.LAZY, cascade = CascadeType.PERSIST)
     private List<PlanMember> planMembers = new ArrayList<>();
 
+    // 상세 일정이 바뀔 때마다 증가 (계획 행을 잠근 채로) - 인스턴스별 구간 인덱스가 최신인지 비교하는 데 사용
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    private long detailVersion;
+
     public Plan updatePlan(PlanUpdateRequestBody planUpdateRequestBody, Member member) {
         this.member = member;
         this.title = planUpdateRequestBody.title();
@@ -55,6 +61,10 @@ public class Plan {
         return this;
     }
 
+    public void increaseDetailVersion() {
+        this.detailVersion++;
+    }
+
     public void timeSet() {
         this.startDate = startDate.toLocalDate().atStartOfDay();
         this.endDate = endDate.toLocalDate().atTime(LocalTime.MAX);
@@ -1,7 +1,13 @@
 package com.backend.domain.plan.repository;
 
+import com.backend.domain.plan.dto.PlanAccess;
+import com.backend.domain.plan.dto.PlanResponseBody;
 import com.backend.domain.plan.entity.Plan;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -12,7 +18,37 @@ public interface PlanRepository extends JpaRepository<Plan, Long> {
 
     Optional<Plan> getPlanById(Long id);
 
+    // 같은 계획의 상세 일정 쓰기를 직렬화 (SELECT ... FOR UPDATE, 겹침 검사부터 커밋까지 다른 쓰기가 끼어들지 않도록)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Plan p WHERE p.id = :planId")
+    Optional<Plan> findByIdForUpdate(@Param("planId") long planId);
+
     List<Plan> getPlansByMember_Id(Long memberId);
 
-    Optional<Plan> getPlanByStartDateAndMemberId(LocalDateTime startDate, Long memberId);
+    // [dayStart, dayEnd) 와 겹치는 계획 중 회원이 승낙한 계획 (작성자도 생성 시 승낙된 멤버로 등록됨)
+    // plan_member 의 (member_id, plan_id) 유니크 인덱스로 회원 행만 읽고 plan 은 PK 로 조인
+    @Query("""
+SELECT new com.backend.domain.plan.dto.PlanResponseBody(p.id, p.title, p.content, p.startDate, p.endDate)
+FROM PlanMember pm
+JOIN pm.plan p
+WHERE pm.member.id = :memberId
+AND pm.isConfirmed = 1
+AND p.startDate < :dayEnd
+AND p.endDate > :dayStart
+ORDER BY p.startDate, p.id
+""")
+    List<PlanResponseBody> findActivePlans(
+            @Param("memberId") long memberId,
+            @Param("dayStart") LocalDateTime dayStart,
+            @Param("dayEnd") LocalDateTime dayEnd
+    );
+
+    // 계획 작성자 + 회원의 초대 상태 (멤버가 아니면 inviteStatus 는 null)
+    @Query("""
+SELECT new com.backend.domain.plan.dto.PlanAccess(p.member.id, pm.isConfirmed)
+FROM Plan p
+LEFT JOIN PlanMember pm ON pm.plan = p AND pm.member.id = :memberId
+WHERE p.id = :planId
+""")
+    Optional<PlanAccess> findAccess(@Param("planId") long planId, @Param("memberId") long memberId);
 }
@@ -0,0 +1,71 @@
+package com.backend.domain.plan.service;
+
+import com.backend.domain.plan.dto.PlanAccess;
+import com.backend.domain.plan.repository.PlanRepository;
+import com.backend.global.exception.BusinessException;
+import com.backend.global.response.ErrorCode;
+import com.backend.global.transaction.AfterCommit;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * (계획, 회원) -> 접근 권한 캐시
+ * - 계획 + 초대 상태를 쿼리 한 번으로 읽고 짧게(access-cache-ttl) 보관 -> 캐시가 있으면 권한 확인에 쿼리 없음
+ * - 초대/승낙/거절/멤버 삭제, 계획 삭제 시 커밋 이후 무효화
+ * - 없는 계획은 캐시하지 않음
+ */
+@Component
+public class PlanAccessCache {
+
+    private record Key(long planId, long memberId) {
+    }
+
+    private final PlanRepository planRepository;
+    private final Cache<Key, PlanAccess> accessByKey;
+
+    public PlanAccessCache(PlanRepository planRepository,
+                           @Value("${custom.plan.access-cache-ttl:5m}") Duration ttl) {
+        this.planRepository = planRepository;
+        this.accessByKey = Caffeine.newBuilder()
+                .maximumSize(50_000)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /** 계획을 사용할 수 있는 회원인지 (멤버가 아니면 NOT_ALLOWED_MEMBER, 초대를 승낙하지 않았으면 NOT_ACCEPTED_MEMBER) */
+    public void checkAvailable(long planId, long memberId) {
+        PlanAccess access = get(planId, memberId);
+        if (access.isOwner(memberId)) {
+            return;
+        }
+        if (!access.isMember()) {
+            throw new BusinessException(ErrorCode.NOT_ALLOWED_MEMBER);
+        }
+        if (!access.isConfirmed()) {
+            throw new BusinessException(ErrorCode.NOT_ACCEPTED_MEMBER);
+        }
+    }
+
+    public PlanAccess get(long planId, long memberId) {
+        PlanAccess access = accessByKey.get(new Key(planId, memberId),
+                key -> planRepository.findAccess(key.planId(), key.memberId()).orElse(null));
+        if (access == null) {
+            throw new BusinessException(ErrorCode.NOT_FOUND_PLAN);
+        }
+        return access;
+    }
+
+    /** 초대 상태가 바뀐 (계획, 회원) 무효화 */
+    public void invalidateAfterCommit(long planId, long memberId) {
+        AfterCommit.run(() -> accessByKey.invalidate(new Key(planId, memberId)));
+    }
+
+    /** 삭제된 계획의 모든 회원 권한 무효화 */
+    public void invalidatePlanAfterCommit(long planId) {
+        AfterCommit.run(() -> accessByKey.asMap().keySet().removeIf(key -> key.planId() == planId));
+    }
+}
@@ -24,10 +24,12 @@ public class PlanMemberService {
     private final PlanMemberRepository planMemberRepository;
     private final PlanService planService;
     private final MemberService memberService;
+    private final PlanAccessCache planAccessCache;
 
     public PlanMemberResponseBody invitePlanMember(PlanMemberAddRequestBody requestBody, long memberId) {
         PlanMember planMember = isValidInvite(requestBody, memberId);
         planMemberRepository.save(planMember);
+        invalidateAccess(planMember);
         return new PlanMemberResponseBody(planMember);
     }
 
@@ -48,6 +50,7 @@ public class PlanMemberService {
         PlanMember planMember = isValidInvite(requestBody, memberPkId);
 
         planMemberRepository.delete(planMember);
+        invalidateAccess(planMember);
         return new PlanMemberResponseBody(planMember);
     }
 
@@ -55,6 +58,7 @@ public class PlanMemberService {
         PlanMember planMember = isMyInvite(requestBody, memberPkId);
         planMember.inviteAccept();
         planMemberRepository.save(planMember);
+        invalidateAccess(planMember);
         return new PlanMemberResponseBody(planMember);
     }
 
@@ -62,6 +66,7 @@ public class PlanMemberService {
         PlanMember planMember = isMyInvite(requestBody, memberPkId);
         planMember.inviteDeny();
         planMemberRepository.save(planMember);
+        invalidateAccess(planMember);
         return new PlanMemberResponseBody(planMember);
     }
 
@@ -98,7 +103,7 @@ public class PlanMemberService {
         return planMember;
     }
 
-    public boolean isAvailablePlanMember(long planId, Member member) {
-        return planMemberRepository.existsByMemberInPlanId(member.getId(),planId);
+    private void invalidateAccess(PlanMember planMember) {
+        planAccessCache.invalidateAfterCommit(planMember.getPlan().getId(), planMember.getMember().getId());
     }
 }
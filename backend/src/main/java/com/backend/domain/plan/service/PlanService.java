@@ -2,9 +2,13 @@ package com.backend.domain.plan.service;
 
 import com.backend.domain.member.entity.Member;
 import com.backend.domain.member.service.MemberService;
+import com.backend.domain.plan.detail.dto.PlanDetailsElementBody;
+import com.backend.domain.plan.detail.dto.PlanDetailsElementRow;
 import com.backend.domain.plan.detail.repository.PlanDetailRepository;
+import com.backend.domain.plan.detail.service.PlanIntervalIndex;
 import com.backend.domain.plan.dto.PlanCreateRequestBody;
 import com.backend.domain.plan.dto.PlanResponseBody;
+import com.backend.domain.plan.dto.TodayPlanResponseBody;
 import com.backend.domain.plan.dto.PlanUpdateRequestBody;
 import com.backend.domain.plan.entity.Plan;
 import com.backend.domain.plan.entity.PlanMember;
@@ -16,8 +20,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,6 +33,8 @@ public class PlanService {
     private final PlanMemberRepository planMemberRepository;
     private final MemberService memberService;
     private final PlanDetailRepository planDetailRepository;
+    private final PlanIntervalIndex planIntervalIndex;
+    private final PlanAccessCache planAccessCache;
     // TODO 회원 서비스 기반 처리 하기, JWT에서 멤버 ID 식별자 사용하면 더 편할것 같은데 보안상의 문제는 없는지?
 
     @Transactional
@@ -65,6 +74,8 @@ public class PlanService {
         planMemberRepository.deletePlanMembersByPlan(plan);
         planDetailRepository.deletePlanDetailsByPlan(plan);
         planRepository.deleteById(planId);
+        planIntervalIndex.invalidateAfterCommit(planId);
+        planAccessCache.invalidatePlanAfterCommit(planId);
     }
 
     public PlanResponseBody getPlanResponseBodyById(long planId) {
@@ -77,12 +88,42 @@ public class PlanService {
         );
     }
 
+    // 상세 일정 추가/수정/하루 교체 전에 트랜잭션의 첫 쿼리로 호출 (이후 읽기가 앞선 쓰기의 커밋을 보도록)
+    public Plan getPlanByIdForUpdate(long planId) {
+        return planRepository.findByIdForUpdate(planId).orElseThrow(
+                () -> new BusinessException(ErrorCode.NOT_FOUND_PLAN)
+        );
+    }
+
+    // 오늘 진행 중인 계획 중 가장 먼저 시작한 계획 (기존 /todayPlan 응답 형태 유지)
     public PlanResponseBody getTodayPlan(long memberPkId){
-        LocalDateTime todayStart = LocalDateTime.now().toLocalDate().atStartOfDay();
-        Plan plan = planRepository.getPlanByStartDateAndMemberId(todayStart, memberPkId).orElseThrow(
+        return findTodayPlans(memberPkId, LocalDate.now().atStartOfDay()).stream().findFirst().orElseThrow(
                 () -> new BusinessException(ErrorCode.NOT_FOUND_PLAN)
         );
-        return new PlanResponseBody(plan);
+    }
+
+    // 오늘 진행 중인 모든 계획 (공유받은 계획 포함) + 각 계획의 오늘 상세 일정
+    // 상세 일정은 계획 id IN 쿼리 한 번으로 읽고 메모리에서 계획별로 묶음 (시작 시간 순 유지)
+    public List<TodayPlanResponseBody> getTodayPlans(long memberPkId) {
+        LocalDateTime todayStart = LocalDate.now().atStartOfDay();
+        List<PlanResponseBody> plans = findTodayPlans(memberPkId, todayStart);
+        if (plans.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> planIds = plans.stream().map(PlanResponseBody::id).toList();
+        Map<Long, List<PlanDetailsElementBody>> detailsByPlanId = planDetailRepository
+                .findElementsByPlanIdInBetween(planIds, todayStart, todayStart.plusDays(1)).stream()
+                .collect(Collectors.groupingBy(PlanDetailsElementRow::planId,
+                        Collectors.mapping(PlanDetailsElementRow::toElement, Collectors.toList())));
+
+        return plans.stream()
+                .map(plan -> new TodayPlanResponseBody(plan, detailsByPlanId.getOrDefault(plan.id(), List.of())))
+                .toList();
+    }
+
+    private List<PlanResponseBody> findTodayPlans(long memberPkId, LocalDateTime todayStart) {
+        return planRepository.findActivePlans(memberPkId, todayStart, todayStart.plusDays(1));
     }
 
     private void hasValidPlan(Plan plan) {
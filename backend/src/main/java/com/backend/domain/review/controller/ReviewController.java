@@ -1,14 +1,20 @@
 package com.backend.domain.review.controller;
 
 
-import com.backend.domain.auth.service.AuthService;
+import com.backend.domain.review.dto.RatingDistributionResponse;
 import com.backend.domain.review.dto.RecommendResponse;
 import com.backend.domain.review.dto.ReviewRequestDto;
 import com.backend.domain.review.dto.ReviewResponseDto;
+import com.backend.domain.review.dto.ReviewSliceResponse;
+import com.backend.domain.review.service.RankingStrategy;
+import com.backend.domain.review.service.RecommendCategory;
 import com.backend.domain.review.service.ReviewService;
 import com.backend.global.response.ApiResponse;
+import com.backend.global.security.CurrentMember;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpHeaders;
+import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
@@ -16,107 +22,152 @@ import java.util.List;
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/review")
+@Validated
 public class ReviewController {
 
+    private static final int MAX_RECOMMEND_LIMIT = 100;
+    // 계산형 순위(bayesian, wilson)는 offset + limit 크기의 힙이 필요하므로 offset 상한을 둠
+    // -> 전체 순위(/recommend/all*)도 offset 1000 + limit 100, 즉 상위 1100 위까지만 페이지로 조회 가능
+    private static final int MAX_RECOMMEND_OFFSET = 1000;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ReviewService reviewService;
-    private final AuthService authService;
 
     //리뷰 등록
     @PostMapping("/add")
     public ApiResponse<ReviewResponseDto> createReview(
-            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String accessToken,
+            @CurrentMember Long memberId,
             @RequestBody ReviewRequestDto reviewRequestDto
     ) {
-        Long memberId = authService.getMemberId(accessToken);
         ReviewResponseDto createdReview = reviewService.createReview(reviewRequestDto, memberId);
         return ApiResponse.created(createdReview);
     }
 
     //리뷰 수정
-    @PatchMapping("/modify/{memberId}")
+    @PatchMapping("/modify/{reviewId}")
     public ApiResponse<Void> modifyReview(
-            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String accessToken,
-            @PathVariable long memberId, @RequestParam int modifyRating) {
-        Long authMemberId = authService.getMemberId(accessToken);
-        reviewService.modifyReview(authMemberId, modifyRating);
+            @CurrentMember Long memberId,
+            @PathVariable long reviewId, @RequestParam int modifyRating) {
+        reviewService.modifyReview(memberId, reviewId, modifyRating);
         return ApiResponse.success();
     }
 
     //리뷰 삭제
     @DeleteMapping("/delete/{reviewId}")
     public ApiResponse<Void> deleteReview(
-            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String accessToken,
+            @CurrentMember Long memberId,
             @PathVariable long reviewId) {
-        Long memberId = authService.getMemberId(accessToken);
         reviewService.deleteReview(memberId, reviewId);
         return ApiResponse.success();
     }
 
-    // 내가 작성한 리뷰 조회
-    @GetMapping("/myReview") // 꼭 reviewId가 필요한가?
-    public ApiResponse<List<ReviewResponseDto>> getMyReview(
-            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String accessToken) {
-        Long memberId = authService.getMemberId(accessToken);
-        List<ReviewResponseDto> response = reviewService.getMyReviews(memberId);
-//        ReviewResponseDto response = reviewService.getReview(memberId, reviewId);
+    // 내가 작성한 리뷰 조회 (cursor: 이전 응답의 nextCursor)
+    @GetMapping("/myReview")
+    public ApiResponse<ReviewSliceResponse> getMyReview(
+            @CurrentMember Long memberId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(MAX_PAGE_SIZE) int size) {
+        ReviewSliceResponse response = reviewService.getMyReviews(memberId, cursor, size);
         return ApiResponse.success(response);
     }
 
     // 특정 여행지의 리뷰 조회
     @GetMapping("/list/{placeId}")
-    public ApiResponse<List<ReviewResponseDto>> getPlaceReview(@PathVariable long placeId) {
-        List<ReviewResponseDto> reviews = reviewService.getReviewList(placeId);
+    public ApiResponse<ReviewSliceResponse> getPlaceReview(
+            @PathVariable long placeId,
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(MAX_PAGE_SIZE) int size) {
+        ReviewSliceResponse reviews = reviewService.getReviewList(placeId, cursor, size);
         return ApiResponse.success(reviews);
     }
 
     // 전체 리뷰 조회
     @GetMapping("/lists")
-    public ApiResponse<List<ReviewResponseDto>> getAllReview() {
-        List<ReviewResponseDto> reviews = reviewService.getAllReviews();
+    public ApiResponse<ReviewSliceResponse> getAllReview(
+            @RequestParam(required = false) Long cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(MAX_PAGE_SIZE) int size) {
+        ReviewSliceResponse reviews = reviewService.getAllReviews(cursor, size);
         return ApiResponse.success(reviews);
     }
 
-    //추천리뷰 -> 평균 별점 상위 5개의 여행지를 추천
+    // 특정 여행지의 별점 분포 (1~5점 개수)
+    @GetMapping("/distribution/{placeId}")
+    public ApiResponse<RatingDistributionResponse> getRatingDistribution(@PathVariable long placeId) {
+        return ApiResponse.success(reviewService.getRatingDistribution(placeId));
+    }
+
+    //추천리뷰 -> 별점 상위 limit개의 여행지를 추천 (offset부터, rank=avg|bayesian|wilson)
     @GetMapping("/recommend/{placeId}")
-    public ApiResponse<List<RecommendResponse>> getRecommendedReviews(@PathVariable long placeId){
-        List<RecommendResponse> recommendedPlaces = reviewService.recommendByPlace(placeId);
+    public ApiResponse<List<RecommendResponse>> getRecommendedReviews(
+            @PathVariable long placeId,
+            @RequestParam(defaultValue = "5") @Min(1) @Max(MAX_RECOMMEND_LIMIT) int limit,
+            @RequestParam(defaultValue = "0") @Min(0) @Max(MAX_RECOMMEND_OFFSET) int offset,
+            @RequestParam(defaultValue = "avg") String rank){
+        List<RecommendResponse> recommendedPlaces = reviewService.recommendByPlace(placeId, RankingStrategy.from(rank), limit, offset);
         return ApiResponse.success(recommendedPlaces);
     }
     //카테고리 - 호텔
     @GetMapping("/recommend/hotel")
-    public ApiResponse<List<RecommendResponse>> recommendHotelReviews(){
-        List<RecommendResponse> recommendedPlaces = reviewService.recommendHotel();
+    public ApiResponse<List<RecommendResponse>> recommendHotelReviews(
+            @RequestParam(defaultValue = "5") @Min(1) @Max(MAX_RECOMMEND_LIMIT) int limit,
+            @RequestParam(defaultValue = "0") @Min(0) @Max(MAX_RECOMMEND_OFFSET) int offset,
+            @RequestParam(defaultValue = "avg") String rank){
+        List<RecommendResponse> recommendedPlaces = reviewService.recommendByCategory(RecommendCategory.HOTEL, RankingStrategy.from(rank), limit, offset);
         return ApiResponse.success(recommendedPlaces);
     }
     //카테고리 - 맛집
     @GetMapping("/recommend/restaurant")
-    public ApiResponse<List<RecommendResponse>> recommendRestaurantReviews(){
-        List<RecommendResponse> recommendedPlaces = reviewService.recommendRestaurant();
+    public ApiResponse<List<RecommendResponse>> recommendRestaurantReviews(
+            @RequestParam(defaultValue = "5") @Min(1) @Max(MAX_RECOMMEND_LIMIT) int limit,
+            @RequestParam(defaultValue = "0") @Min(0) @Max(MAX_RECOMMEND_OFFSET) int offset,
+            @RequestParam(defaultValue = "avg") String rank){
+        List<RecommendResponse> recommendedPlaces = reviewService.recommendByCategory(RecommendCategory.RESTAURANT, RankingStrategy.from(rank), limit, offset);
         return ApiResponse.success(recommendedPlaces);
     }
     //카테고리 - 야경
     @GetMapping("/recommend/nightspot")
-    public ApiResponse<List<RecommendResponse>> recommendNightspotReviews(){
-        List<RecommendResponse> recommendedPlaces = reviewService.recommendNightSpot();
+    public ApiResponse<List<RecommendResponse>> recommendNightspotReviews(
+            @RequestParam(defaultValue = "5") @Min(1) @Max(MAX_RECOMMEND_LIMIT) int limit,
+            @RequestParam(defaultValue = "0") @Min(0) @Max(MAX_RECOMMEND_OFFSET) int offset,
+            @RequestParam(defaultValue = "avg") String rank){
+        List<RecommendResponse> recommendedPlaces = reviewService.recommendByCategory(RecommendCategory.NIGHTSPOT, RankingStrategy.from(rank), limit, offset);
         return ApiResponse.success(recommendedPlaces);
     }
 
-    //카테고리 - 호텔
+    //카테고리별 인기 급상승 (hotel, restaurant, nightspot) - 최근 리뷰가 많고 별점이 높을수록 상위
+    @GetMapping("/recommend/trending/{category}")
+    public ApiResponse<List<RecommendResponse>> recommendTrending(
+            @PathVariable String category,
+            @RequestParam(defaultValue = "5") @Min(1) @Max(MAX_RECOMMEND_LIMIT) int limit){
+        List<RecommendResponse> trendingPlaces = reviewService.trendingByCategory(RecommendCategory.fromPath(category), limit);
+        return ApiResponse.success(trendingPlaces);
+    }
+
+    //카테고리 - 호텔 전체 순위 (한 페이지 최대 100개, offset 은 최대 MAX_RECOMMEND_OFFSET -> 상위 1100 위까지)
     @GetMapping("/recommend/allHotel")
-    public ApiResponse<List<RecommendResponse>> sortAllHotelReviews(){
-        List<RecommendResponse> recommendedPlaces = reviewService.sortAllHotelReviews();
+    public ApiResponse<List<RecommendResponse>> sortAllHotelReviews(
+            @RequestParam(defaultValue = "100") @Min(1) @Max(MAX_RECOMMEND_LIMIT) int limit,
+            @RequestParam(defaultValue = "0") @Min(0) @Max(MAX_RECOMMEND_OFFSET) int offset,
+            @RequestParam(defaultValue = "avg") String rank){
+        List<RecommendResponse> recommendedPlaces = reviewService.recommendByCategory(RecommendCategory.HOTEL, RankingStrategy.from(rank), limit, offset);
         return ApiResponse.success(recommendedPlaces);
     }
-    //카테고리 - 맛집
+    //카테고리 - 맛집 전체 순위
     @GetMapping("/recommend/allRestaurant")
-    public ApiResponse<List<RecommendResponse>> sortAllRestaurantReviews(){
-        List<RecommendResponse> recommendedPlaces = reviewService.sortAllRestaurantReviews();
+    public ApiResponse<List<RecommendResponse>> sortAllRestaurantReviews(
+            @RequestParam(defaultValue = "100") @Min(1) @Max(MAX_RECOMMEND_LIMIT) int limit,
+            @RequestParam(defaultValue = "0") @Min(0) @Max(MAX_RECOMMEND_OFFSET) int offset,
+            @RequestParam(defaultValue = "avg") String rank){
+        List<RecommendResponse> recommendedPlaces = reviewService.recommendByCategory(RecommendCategory.RESTAURANT, RankingStrategy.from(rank), limit, offset);
         return ApiResponse.success(recommendedPlaces);
     }
-    //카테고리 - 야경
+    //카테고리 - 야경 전체 순위
     @GetMapping("/recommend/allNightspot")
-    public ApiResponse<List<RecommendResponse>> sortAllNightspotReviews(){
-        List<RecommendResponse> recommendedPlaces = reviewService.sortAllNightSpotReviews();
+    public ApiResponse<List<RecommendResponse>> sortAllNightspotReviews(
+            @RequestParam(defaultValue = "100") @Min(1) @Max(MAX_RECOMMEND_LIMIT) int limit,
+            @RequestParam(defaultValue = "0") @Min(0) @Max(MAX_RECOMMEND_OFFSET) int offset,
+            @RequestParam(defaultValue = "avg") String rank){
+        List<RecommendResponse> recommendedPlaces = reviewService.recommendByCategory(RecommendCategory.NIGHTSPOT, RankingStrategy.from(rank), limit, offset);
         return ApiResponse.success(recommendedPlaces);
     }
 
@@ -0,0 +1,23 @@
+package com.backend.domain.review.dto;
+
+import com.backend.domain.place.entity.Place;
+
+/**
+ * 여행지 별점 분포
+ * - counts[0] = 1점 리뷰 수 ... counts[4] = 5점 리뷰 수
+ */
+public record RatingDistributionResponse(
+        Long placeId,
+        int ratingCount,
+        double averageRating,
+        int[] counts
+) {
+    public static RatingDistributionResponse from(Place place) {
+        return new RatingDistributionResponse(
+                place.getId(),
+                place.getRatingCount(),
+                place.getRatingAvg(),
+                place.getRatingHistogram()
+        );
+    }
+}
@@ -1,5 +1,6 @@
 package com.backend.domain.review.dto;
 
+import com.backend.domain.place.dto.PlaceRankEntry;
 import com.backend.domain.place.entity.Place;
 
 public record RecommendResponse(
@@ -9,9 +10,11 @@ public record RecommendResponse(
         String gu,
         String category,
         String description,
-        double averageRating
+        double averageRating,
+        int reviewCount,
+        double score        // 선택한 정렬 방식(rank)으로 계산한 점수
 ) {
-    public static RecommendResponse from(Place place, double averageRating) {
+    public static RecommendResponse from(Place place, double score) {
         return new RecommendResponse(
                 place.getId(),
                 place.getPlaceName(),
@@ -19,7 +22,23 @@ public record RecommendResponse(
                 place.getGu(),
                 place.getCategory().getName(),
                 place.getDescription(),
-                averageRating
+                place.getRatingAvg(),
+                place.getRatingCount(),
+                score
+        );
+    }
+
+    public static RecommendResponse from(PlaceRankEntry entry, double score) {
+        return new RecommendResponse(
+                entry.placeId(),
+                entry.placeName(),
+                entry.address(),
+                entry.gu(),
+                entry.category(),
+                entry.description(),
+                entry.ratingAvg(),
+                entry.ratingCount(),
+                score
         );
     }
 }
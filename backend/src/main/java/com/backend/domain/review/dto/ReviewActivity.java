@@ -0,0 +1,12 @@
+package com.backend.domain.review.dto;
+
+import java.time.LocalDateTime;
+
+// 인기 급상승 순위 재구성용 리뷰 활동 (여행지, 카테고리, 별점, 작성 시각)
+public record ReviewActivity(
+        Long placeId,
+        String category,
+        int rating,
+        LocalDateTime createdDate
+) {
+}
@@ -0,0 +1,33 @@
+package com.backend.domain.review.dto;
+
+import com.backend.global.response.ErrorCode;
+
+import java.util.List;
+
+/**
+ * 리뷰 대량 등록 결과
+ * - rejected : 등록하지 못한 행 (index 는 요청 배열 기준 0부터)
+ *   요청이 중간에 깨졌으면 마지막 항목이 R005 (memberId/placeId 없음), requested 는 그 앞까지 읽은 행 수
+ */
+public record ReviewBulkResponse(
+        int requested,
+        int inserted,
+        List<Rejection> rejected
+) {
+    public record Rejection(
+            int index,
+            Long memberId,
+            Long placeId,
+            String code,
+            String message
+    ) {
+        public static Rejection of(int index, ReviewBulkRow row, ErrorCode errorCode) {
+            return new Rejection(index, row.memberId(), row.placeId(), errorCode.getCode(), errorCode.getMessage());
+        }
+
+        // 읽을 수 없는 행 (형식 오류) - 이 index 부터는 처리하지 않음
+        public static Rejection unreadable(int index, ErrorCode errorCode) {
+            return new Rejection(index, null, null, errorCode.getCode(), errorCode.getMessage());
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.backend.domain.review.dto;
+
+public record ReviewBulkRow(
+        Long memberId,
+        Long placeId,
+        int rating
+) {
+}
@@ -0,0 +1,5 @@
+package com.backend.domain.review.dto;
+
+// (회원, 여행지) 리뷰 중복 확인용 키
+public record ReviewKey(Long memberId, Long placeId) {
+}
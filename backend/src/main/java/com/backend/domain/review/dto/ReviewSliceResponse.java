@@ -0,0 +1,21 @@
+package com.backend.domain.review.dto;
+
+import java.util.List;
+
+/**
+ * 리뷰 목록 커서 페이지
+ * - nextCursor : 다음 요청의 cursor 로 넘길 값 (마지막 리뷰 id), 다음 페이지가 없으면 null
+ */
+public record ReviewSliceResponse(
+        List<ReviewResponseDto> reviews,
+        Long nextCursor,
+        boolean hasNext
+) {
+    // size + 1 개를 조회해 다음 페이지 존재 여부를 판단
+    public static ReviewSliceResponse of(List<ReviewResponseDto> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<ReviewResponseDto> reviews = hasNext ? rows.subList(0, size) : rows;
+        Long nextCursor = hasNext ? reviews.get(reviews.size() - 1).reviewId() : null;
+        return new ReviewSliceResponse(reviews, nextCursor, hasNext);
+    }
+}
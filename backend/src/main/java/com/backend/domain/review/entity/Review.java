@@ -12,11 +12,23 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name="review")
+@Table(name="review",
+        uniqueConstraints = @UniqueConstraint(name = Review.UK_MEMBER_PLACE, columnNames = {"member_id", "place_id"}),
+        indexes = @Index(name = "idx_review_created_date", columnList = "created_date"))
 @NoArgsConstructor
 @Getter
 public class Review {
 
+    // 회원당 여행지 하나에 리뷰 하나
+    public static final String UK_MEMBER_PLACE = "uk_review_member_place";
+
+    // INSERT 실패 원인을 제약 이름으로 구분하기 위해 외래 키 이름 고정 (기존 DB 는 ReviewSchemaMigration 이 이름을 바꿈)
+    public static final String FK_MEMBER = "fk_review_member";
+    public static final String FK_PLACE = "fk_review_place";
+
+    public static final int MIN_RATING = 1;
+    public static final int MAX_RATING = 5;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -31,12 +43,12 @@ public class Review {
     @Column(nullable = false ,name = "modified_date")
     private LocalDateTime modifiedDate;
 
-    @ManyToOne
-    @JoinColumn(name = "place_id", nullable = false)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "place_id", nullable = false, foreignKey = @ForeignKey(name = FK_PLACE))
     private Place place;
 
-    @ManyToOne
-    @JoinColumn(name = "member_id", nullable = false)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "member_id", nullable = false, foreignKey = @ForeignKey(name = FK_MEMBER))
     private Member member;
 
     public void onCreate() {
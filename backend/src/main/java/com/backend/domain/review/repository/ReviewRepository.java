@@ -1,12 +1,23 @@
 package com.backend.domain.review.repository;
 
+import com.backend.domain.review.dto.ReviewActivity;
+import com.backend.domain.review.dto.ReviewKey;
+import com.backend.domain.review.dto.ReviewResponseDto;
 import com.backend.domain.review.entity.Review;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 public interface ReviewRepository extends JpaRepository<Review,Long> {
     // 특정 회원이 특정 장소에 남긴 리뷰가 있는지 확인하는 메서드
@@ -14,11 +25,63 @@ public interface ReviewRepository extends JpaRepository<Review,Long> {
     List<Review> findByPlaceId(Long placeId);
     List<Review> findByMemberId(Long memberId);
     List findTop5ByPlaceIdOrderByRatingDesc(long placeId);
-    List<Review> findAllByMemberId(Long memberId);
+    boolean existsByIdAndMemberId(Long id, Long memberId);
+
+    // 대량 등록 전 이미 존재하는 (회원, 여행지) 리뷰 확인
+    @Query("""
+SELECT new com.backend.domain.review.dto.ReviewKey(r.member.id, r.place.id)
+FROM Review r
+WHERE r.member.id IN :memberIds
+AND r.place.id IN :placeIds
+""")
+    List<ReviewKey> findKeysByMemberIdInAndPlaceIdIn(@Param("memberIds") Collection<Long> memberIds,
+                                                     @Param("placeIds") Collection<Long> placeIds);
+
+    // 커서 기반 목록 조회 (id 내림차순, cursor 보다 작은 id 부터)
+    // - 회원/여행지/카테고리를 한 번에 조인해 DTO로 바로 조회
+    @Query("""
+SELECT new com.backend.domain.review.dto.ReviewResponseDto(m.memberId, r.id, r.rating, r.modifiedDate, c.name, p.placeName, p.address, p.gu)
+FROM Review r
+JOIN r.member m
+JOIN r.place p
+LEFT JOIN p.category c
+WHERE (:cursor IS NULL OR r.id < :cursor)
+ORDER BY r.id DESC
+""")
+    List<ReviewResponseDto> findSlice(@Param("cursor") Long cursor, Pageable pageable);
+
+    @Query("""
+SELECT new com.backend.domain.review.dto.ReviewResponseDto(m.memberId, r.id, r.rating, r.modifiedDate, c.name, p.placeName, p.address, p.gu)
+FROM Review r
+JOIN r.member m
+JOIN r.place p
+LEFT JOIN p.category c
+WHERE p.id = :placeId
+AND (:cursor IS NULL OR r.id < :cursor)
+ORDER BY r.id DESC
+""")
+    List<ReviewResponseDto> findSliceByPlaceId(@Param("placeId") Long placeId, @Param("cursor") Long cursor, Pageable pageable);
 
-    @Query(
-            "SELECT COALESCE(AVG(r.rating), 0) FROM Review r WHERE r.place.id = :placeId"       // 장소 ID에 해당하는 리뷰들의 평균 평점을 계산
-    )
-    double findAverageRatingByPlaceId(@Param("placeId") long placeId);
+    @Query("""
+SELECT new com.backend.domain.review.dto.ReviewResponseDto(m.memberId, r.id, r.rating, r.modifiedDate, c.name, p.placeName, p.address, p.gu)
+FROM Review r
+JOIN r.member m
+JOIN r.place p
+LEFT JOIN p.category c
+WHERE m.id = :memberId
+AND (:cursor IS NULL OR r.id < :cursor)
+ORDER BY r.id DESC
+""")
+    List<ReviewResponseDto> findSliceByMemberId(@Param("memberId") Long memberId, @Param("cursor") Long cursor, Pageable pageable);
 
+    // 인기 급상승 순위 재구성용 최근 리뷰 활동 (트랜잭션 안에서 사용)
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query("""
+SELECT new com.backend.domain.review.dto.ReviewActivity(p.id, c.name, r.rating, r.createdDate)
+FROM Review r
+JOIN r.place p
+JOIN p.category c
+WHERE r.createdDate >= :since
+""")
+    Stream<ReviewActivity> streamActivitySince(@Param("since") LocalDateTime since);
 }
@@ -0,0 +1,57 @@
+package com.backend.domain.review.service;
+
+import com.backend.domain.place.dto.CategoryPrior;
+import com.backend.global.exception.BusinessException;
+import com.backend.global.response.ErrorCode;
+
+import java.util.Arrays;
+
+/**
+ * 추천 순위 계산 방식 (?rank=avg|bayesian|wilson)
+ * - 모두 여행지의 누적 합계/개수와 카테고리 사전 분포만으로 계산하므로 추가 쿼리가 없음
+ */
+public enum RankingStrategy {
+
+    // 단순 평균 평점
+    AVG {
+        @Override
+        public double score(long ratingSum, int ratingCount, double ratingAvg, CategoryPrior prior) {
+            return ratingAvg;
+        }
+    },
+
+    // 베이지안 평균 : (C * m + sum) / (C + count), m = 카테고리 평균, C = 여행지당 평균 리뷰 수
+    BAYESIAN {
+        @Override
+        public double score(long ratingSum, int ratingCount, double ratingAvg, CategoryPrior prior) {
+            double weight = prior.weight();
+            return (weight * prior.mean() + ratingSum) / (weight + ratingCount);
+        }
+    },
+
+    // 윌슨 점수 구간 하한 (95%) : 별점을 0~1 로 정규화해 계산한 뒤 다시 1~5 점으로 환산
+    WILSON {
+        @Override
+        public double score(long ratingSum, int ratingCount, double ratingAvg, CategoryPrior prior) {
+            if (ratingCount == 0) {
+                return 0.0;
+            }
+            double n = ratingCount;
+            double p = (ratingSum - n) / (4 * n);
+            double z2 = WILSON_Z * WILSON_Z;
+            double lowerBound = (p + z2 / (2 * n) - WILSON_Z * Math.sqrt((p * (1 - p) + z2 / (4 * n)) / n)) / (1 + z2 / n);
+            return 1 + 4 * lowerBound;
+        }
+    };
+
+    private static final double WILSON_Z = 1.96;
+
+    public abstract double score(long ratingSum, int ratingCount, double ratingAvg, CategoryPrior prior);
+
+    public static RankingStrategy from(String value) {
+        return Arrays.stream(values())
+                .filter(strategy -> strategy.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_RANKING_STRATEGY));
+    }
+}
@@ -0,0 +1,31 @@
+package com.backend.domain.review.service;
+
+import com.backend.global.exception.BusinessException;
+import com.backend.global.response.ErrorCode;
+import lombok.Getter;
+
+import java.util.Arrays;
+
+/**
+ * 추천 API에서 사용하는 카테고리와 실제 Category.name 매핑
+ */
+@Getter
+public enum RecommendCategory {
+    HOTEL("HOTEL"),
+    RESTAURANT("맛집"),
+    NIGHTSPOT("NIGHTSPOT");
+
+    private final String categoryName;
+
+    RecommendCategory(String categoryName) {
+        this.categoryName = categoryName;
+    }
+
+    // 경로 변수(hotel, restaurant, nightspot) → 카테고리
+    public static RecommendCategory fromPath(String path) {
+        return Arrays.stream(values())
+                .filter(category -> category.name().equalsIgnoreCase(path))
+                .findFirst()
+                .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_CATEGORY));
+    }
+}
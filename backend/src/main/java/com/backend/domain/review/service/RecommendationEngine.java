@@ -0,0 +1,176 @@
+package com.backend.domain.review.service;
+
+import com.backend.domain.place.dto.CategoryPrior;
+import com.backend.domain.place.dto.NamedCategoryPrior;
+import com.backend.domain.place.dto.PlaceRankEntry;
+import com.backend.domain.place.dto.PlaceRatingScore;
+import com.backend.domain.place.entity.Place;
+import com.backend.domain.place.repository.PlaceRepository;
+import com.backend.domain.place.service.PlaceLeaderboard;
+import com.backend.domain.review.dto.RecommendResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 평점 기반 Top-K 추천
+ * - 후보 여행지는 평점 집계 프로젝션으로만 훑고, 크기가 (offset + limit)인 최소 힙에 상위 K개만 유지
+ * - 최종 K개의 Place는 IN 쿼리 한 번으로 조회
+ * - 메모리/지연 시간이 카테고리 전체 크기가 아닌 K에 비례
+ * - 인메모리 순위표(PlaceLeaderboard)가 준비된 뒤에는 DB 조회 없이 순위표에서 바로 읽음
+ * - 평균(avg)은 순위표 순서 그대로, bayesian/wilson 은 순위표 항목을 힙으로 다시 골라냄
+ * - 순위표 준비 전 평균(avg)은 rating_avg 인덱스를 타는 LIMIT/OFFSET 쿼리 한 번, 계산 점수만 힙 사용
+ */
+@Component
+@RequiredArgsConstructor
+public class RecommendationEngine {
+
+    // 점수 내림차순, 동점이면 placeId 내림차순
+    static final Comparator<Ranked<?>> RANKING_ORDER =
+            Comparator.<Ranked<?>>comparingDouble(Ranked::score)
+                    .thenComparing(Ranked::placeId)
+                    .reversed();
+
+    // 힙은 후보 수만큼만 커지므로 (offset + limit)으로 미리 크게 잡지 않음
+    private static final int INITIAL_HEAP_CAPACITY = 64;
+
+    private final PlaceRepository placeRepository;
+    private final PlaceLeaderboard placeLeaderboard;
+
+    public List<RecommendResponse> recommend(String categoryName, RankingStrategy strategy, int limit, int offset) {
+        if (!placeLeaderboard.isReady()) {
+            return recommendFromDatabase(categoryName, strategy, limit, offset);
+        }
+        if (strategy == RankingStrategy.AVG) {
+            return placeLeaderboard.top(categoryName, offset, limit).stream()
+                    .map(entry -> RecommendResponse.from(entry, entry.ratingAvg()))
+                    .toList();
+        }
+
+        CategoryPrior prior = placeLeaderboard.prior(categoryName);
+        return fromEntries(selectTopK(
+                placeLeaderboard.entries(categoryName).stream(),
+                entry -> strategy.score(entry.ratingSum(), entry.ratingCount(), entry.ratingAvg(), prior),
+                PlaceRankEntry::placeId,
+                limit, offset));
+    }
+
+    public List<RecommendResponse> recommendAll(RankingStrategy strategy, int limit, int offset) {
+        if (!placeLeaderboard.isReady()) {
+            return recommendAllFromDatabase(strategy, limit, offset);
+        }
+        if (strategy == RankingStrategy.AVG) {
+            return placeLeaderboard.topAll(offset, limit).stream()
+                    .map(entry -> RecommendResponse.from(entry, entry.ratingAvg()))
+                    .toList();
+        }
+
+        // 카테고리마다 자기 카테고리의 사전 분포로 점수 계산
+        Map<String, CategoryPrior> priors = placeLeaderboard.priors();
+        return fromEntries(selectTopK(
+                placeLeaderboard.allEntries(),
+                entry -> strategy.score(entry.ratingSum(), entry.ratingCount(), entry.ratingAvg(),
+                        priors.getOrDefault(entry.category(), CategoryPrior.EMPTY)),
+                PlaceRankEntry::placeId,
+                limit, offset));
+    }
+
+    // 순위표 재구성 전(기동 직후)에만 사용
+    @Transactional(readOnly = true)
+    public List<RecommendResponse> recommendFromDatabase(String categoryName, RankingStrategy strategy, int limit, int offset) {
+        if (strategy == RankingStrategy.AVG) {
+            return fromPlaces(placeRepository.findTopByRatingAvg(categoryName, limit, offset));
+        }
+        CategoryPrior prior = strategy == RankingStrategy.BAYESIAN
+                ? placeRepository.findPriorByCategoryName(categoryName)
+                : CategoryPrior.EMPTY;
+        try (Stream<PlaceRatingScore> candidates = placeRepository.streamRatingScoresByCategoryName(categoryName)) {
+            return fromScores(selectTopK(candidates, scorer(strategy, prior), PlaceRatingScore::placeId, limit, offset));
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<RecommendResponse> recommendAllFromDatabase(RankingStrategy strategy, int limit, int offset) {
+        if (strategy == RankingStrategy.AVG) {
+            return fromPlaces(placeRepository.findTopOfAllByRatingAvg(limit, offset));
+        }
+        // 순위표 경로와 같은 결과가 나오도록 카테고리마다 자기 카테고리의 사전 분포 사용
+        Map<String, CategoryPrior> priors = strategy == RankingStrategy.BAYESIAN
+                ? placeRepository.findPriorsByCategory().stream()
+                        .collect(Collectors.toMap(NamedCategoryPrior::categoryName, NamedCategoryPrior::prior))
+                : Map.of();
+        try (Stream<PlaceRatingScore> candidates = placeRepository.streamAllRatingScores()) {
+            return fromScores(selectTopK(candidates,
+                    score -> strategy.score(score.ratingSum(), score.ratingCount(), score.ratingAvg(),
+                            priors.getOrDefault(score.category(), CategoryPrior.EMPTY)),
+                    PlaceRatingScore::placeId, limit, offset));
+        }
+    }
+
+    private static ToDoubleFunction<PlaceRatingScore> scorer(RankingStrategy strategy, CategoryPrior prior) {
+        return score -> strategy.score(score.ratingSum(), score.ratingCount(), score.ratingAvg(), prior);
+    }
+
+    // 상위 (offset + limit)개만 힙에 유지한 뒤 offset 만큼 건너뜀
+    static <T> List<Ranked<T>> selectTopK(Stream<T> candidates, ToDoubleFunction<T> scorer,
+                                          Function<T, Long> placeIdOf, int limit, int offset) {
+        if (limit <= 0 || offset < 0) {
+            return List.of();
+        }
+        int capacity = (int) Math.min((long) offset + limit, Integer.MAX_VALUE);
+
+        // 힙의 top은 현재 K개 중 가장 순위가 낮은 항목
+        PriorityQueue<Ranked<T>> heap = new PriorityQueue<>(Math.min(capacity, INITIAL_HEAP_CAPACITY), RANKING_ORDER.reversed());
+        candidates.forEach(candidate -> {
+            Ranked<T> ranked = new Ranked<>(candidate, scorer.applyAsDouble(candidate), placeIdOf.apply(candidate));
+            if (heap.size() < capacity) {
+                heap.offer(ranked);
+            } else if (RANKING_ORDER.compare(ranked, heap.peek()) < 0) {
+                heap.poll();
+                heap.offer(ranked);
+            }
+        });
+
+        List<Ranked<T>> ranked = new ArrayList<>(heap);
+        ranked.sort(RANKING_ORDER);
+        return offset >= ranked.size() ? List.of() : ranked.subList(offset, ranked.size());
+    }
+
+    private List<RecommendResponse> fromEntries(List<Ranked<PlaceRankEntry>> ranked) {
+        return ranked.stream()
+                .map(r -> RecommendResponse.from(r.item(), r.score()))
+                .toList();
+    }
+
+    private List<RecommendResponse> fromPlaces(List<Place> places) {
+        return places.stream()
+                .map(place -> RecommendResponse.from(place, place.getRatingAvg()))
+                .toList();
+    }
+
+    private List<RecommendResponse> fromScores(List<Ranked<PlaceRatingScore>> ranked) {
+        if (ranked.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> placeIds = ranked.stream().map(Ranked::placeId).toList();
+        Map<Long, Place> places = placeRepository.findAllWithCategoryByIdIn(placeIds)
+                .stream()
+                .collect(Collectors.toMap(Place::getId, Function.identity()));
+
+        // 조회 사이에 삭제된 여행지는 제외
+        return ranked.stream()
+                .filter(r -> places.containsKey(r.placeId()))
+                .map(r -> RecommendResponse.from(places.get(r.placeId()), r.score()))
+                .toList();
+    }
+
+    record Ranked<T>(T item, double score, Long placeId) {
+    }
+}
@@ -0,0 +1,244 @@
+package com.backend.domain.review.service;
+
+import com.backend.domain.member.repository.MemberRepository;
+import com.backend.domain.place.entity.Place;
+import com.backend.domain.place.repository.PlaceRepository;
+import com.backend.domain.place.service.PlaceLeaderboard;
+import com.backend.domain.review.dto.ReviewBulkResponse;
+import com.backend.domain.review.dto.ReviewBulkResponse.Rejection;
+import com.backend.domain.review.dto.ReviewBulkRow;
+import com.backend.domain.review.dto.ReviewKey;
+import com.backend.domain.review.entity.Review;
+import com.backend.domain.review.repository.ReviewRepository;
+import com.backend.global.response.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 리뷰 대량 등록 (제휴사 평점 백필용)
+ * - BATCH_SIZE 행 단위로 검증 → INSERT → 여행지 평점 집계 갱신을 한 트랜잭션으로 처리
+ * - 검증은 배치마다 IN 쿼리 3번 (회원, 여행지, 기존 리뷰)으로 끝내고, 실패한 행만 rejected 로 돌려줌
+ * - review 는 IDENTITY 전략이라 Hibernate 배치 INSERT 가 동작하지 않으므로 JdbcTemplate 배치 사용
+ * - 여행지 집계(합계/개수/별점 분포)는 행마다가 아니라 배치마다 여행지별 증분을 한 번씩만 반영
+ * - 요청 행은 Iterator 로 BATCH_SIZE 씩만 꺼내므로 요청 전체를 메모리에 올리지 않음
+ * - 중간에 읽을 수 없는 행(형식 오류)을 만나면 거기까지 등록하고 결과를 그대로 돌려줌 (마지막 rejected 가 오류 위치)
+ *   (앞 배치는 이미 커밋되어 있으므로 배치 간 중복도 기존 리뷰 조회로 걸러짐)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReviewBulkService {
+
+    static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_REVIEW_SQL = """
+            INSERT INTO review (member_id, place_id, rating, created_date, modified_date)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    // MySQL 은 SET 을 왼쪽부터 적용하므로 rating_avg 를 먼저 계산해 갱신 전 값을 사용
+    // version 을 올려 동시에 진행 중인 단건 리뷰 트랜잭션은 낙관적 락 재시도로 넘어가게 함
+    private static final String ADD_RATINGS_SQL = """
+            UPDATE place
+            SET rating_avg = (rating_sum + ?) * 1.0 / (rating_count + ?),
+                rating_sum = rating_sum + ?,
+                rating_count = rating_count + ?,
+                rating1_count = rating1_count + ?,
+                rating2_count = rating2_count + ?,
+                rating3_count = rating3_count + ?,
+                rating4_count = rating4_count + ?,
+                rating5_count = rating5_count + ?,
+                version = COALESCE(version, 0) + 1
+            WHERE id = ?
+            """;
+
+    private final ReviewRepository reviewRepository;
+    private final MemberRepository memberRepository;
+    private final PlaceRepository placeRepository;
+    private final PlaceLeaderboard placeLeaderboard;
+    private final TrendingPlaces trendingPlaces;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ReviewBulkResponse ingest(Iterator<ReviewBulkRow> rows) {
+        List<Rejection> rejected = new ArrayList<>();
+        List<ReviewBulkRow> batch = new ArrayList<>(BATCH_SIZE);
+        int requested = 0;
+        int inserted = 0;
+        Rejection unreadable = null;
+
+        while (true) {
+            ReviewBulkRow row;
+            try {
+                if (!rows.hasNext()) {
+                    break;
+                }
+                row = rows.next();
+            } catch (RuntimeException e) {
+                // 형식이 깨진 지점에서 멈춤 - 앞의 행은 등록하고, 그 위치를 마지막 rejected 로 알려줌
+                log.warn("[Review] 대량 등록 요청 파싱 실패: index={}, {}", requested + batch.size(), e.getMessage());
+                unreadable = Rejection.unreadable(requested + batch.size(), ErrorCode.INVALID_BULK_REVIEW_PAYLOAD);
+                break;
+            }
+            batch.add(row);
+            if (batch.size() == BATCH_SIZE) {
+                inserted += ingestBatch(batch, requested, rejected);
+                requested += batch.size();
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            inserted += ingestBatch(batch, requested, rejected);
+            requested += batch.size();
+        }
+        if (unreadable != null) {
+            rejected.add(unreadable);
+        }
+
+        log.info("[Review] 대량 등록 완료: requested={}, inserted={}, rejected={}", requested, inserted, rejected.size());
+        return new ReviewBulkResponse(requested, inserted, rejected);
+    }
+
+    // firstIndex : 배치 첫 행의 요청 전체 기준 index
+    private int ingestBatch(List<ReviewBulkRow> rows, int firstIndex, List<Rejection> rejected) {
+        List<Rejection> batchRejected = new ArrayList<>();
+        List<IndexedRow> accepted = validate(rows, firstIndex, batchRejected);
+        LocalDateTime createdDate = LocalDateTime.now();
+
+        try {
+            write(accepted, createdDate);
+        } catch (DataIntegrityViolationException e) {
+            // 검증 이후 같은 (회원, 여행지) 리뷰가 단건 API로 먼저 등록된 경우 - 다시 검증해서 한 번만 재시도
+            log.warn("[Review] 대량 등록 배치 충돌, 재검증 후 재시도: rows={}~{}", firstIndex, firstIndex + rows.size() - 1);
+            batchRejected.clear();
+            accepted = validate(rows, firstIndex, batchRejected);
+            try {
+                write(accepted, createdDate);
+            } catch (DataIntegrityViolationException retryFailure) {
+                accepted.forEach(indexed -> batchRejected.add(
+                        Rejection.of(indexed.index(), indexed.row(), ErrorCode.CONCURRENT_UPDATE_CONFLICT)));
+                accepted = List.of();
+            }
+        }
+
+        rejected.addAll(batchRejected);
+        refreshRankings(accepted, createdDate);
+        return accepted.size();
+    }
+
+    private List<IndexedRow> validate(List<ReviewBulkRow> rows, int firstIndex, List<Rejection> rejected) {
+        Set<Long> memberIds = new HashSet<>();
+        Set<Long> placeIds = new HashSet<>();
+        for (ReviewBulkRow row : rows) {
+            if (row.memberId() != null) memberIds.add(row.memberId());
+            if (row.placeId() != null) placeIds.add(row.placeId());
+        }
+
+        Set<Long> activeMembers = memberIds.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(memberRepository.findActiveIdsByIdIn(memberIds));
+        Set<Long> places = placeIds.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(placeRepository.findIdsByIdIn(placeIds));
+        Set<ReviewKey> existing = activeMembers.isEmpty() || places.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(reviewRepository.findKeysByMemberIdInAndPlaceIdIn(activeMembers, places));
+
+        Set<ReviewKey> batchKeys = new HashSet<>();
+        List<IndexedRow> accepted = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            ReviewBulkRow row = rows.get(i);
+            int index = firstIndex + i;
+            ReviewKey key = new ReviewKey(row.memberId(), row.placeId());
+
+            // id 가 없는 행은 멤버십 확인 전에 거절
+            ErrorCode error = null;
+            if (row.rating() < Review.MIN_RATING || row.rating() > Review.MAX_RATING) {
+                error = ErrorCode.INVALID_RATING;
+            } else if (row.memberId() == null || !activeMembers.contains(row.memberId())) {
+                error = ErrorCode.MEMBER_NOT_FOUND;
+            } else if (row.placeId() == null || !places.contains(row.placeId())) {
+                error = ErrorCode.NOT_FOUND_PLACE;
+            } else if (existing.contains(key) || !batchKeys.add(key)) {
+                error = ErrorCode.GIVEN_REVIEW;
+            }
+
+            if (error != null) {
+                rejected.add(Rejection.of(index, row, error));
+            } else {
+                accepted.add(new IndexedRow(index, row, key));
+            }
+        }
+        return accepted;
+    }
+
+    private void write(List<IndexedRow> accepted, LocalDateTime createdDate) {
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        // 여행지별 (합계, 개수, 1~5점 개수) 증분
+        Map<Long, long[]> deltas = new HashMap<>();
+        for (IndexedRow indexed : accepted) {
+            int rating = indexed.row().rating();
+            long[] delta = deltas.computeIfAbsent(indexed.row().placeId(), id -> new long[2 + Review.MAX_RATING]);
+            delta[0] += rating;
+            delta[1]++;
+            delta[1 + rating]++;
+        }
+
+        Timestamp now = Timestamp.valueOf(createdDate);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_REVIEW_SQL, accepted, BATCH_SIZE, (ps, indexed) -> {
+                ps.setLong(1, indexed.row().memberId());
+                ps.setLong(2, indexed.row().placeId());
+                ps.setInt(3, indexed.row().rating());
+                ps.setTimestamp(4, now);
+                ps.setTimestamp(5, now);
+            });
+            jdbcTemplate.batchUpdate(ADD_RATINGS_SQL, new ArrayList<>(deltas.entrySet()), BATCH_SIZE, (ps, entry) -> {
+                long[] delta = entry.getValue();
+                ps.setLong(1, delta[0]);
+                ps.setLong(2, delta[1]);
+                ps.setLong(3, delta[0]);
+                ps.setLong(4, delta[1]);
+                for (int rating = Review.MIN_RATING; rating <= Review.MAX_RATING; rating++) {
+                    ps.setLong(4 + rating, delta[1 + rating]);
+                }
+                ps.setLong(10, entry.getKey());
+            });
+        });
+    }
+
+    // 커밋된 집계를 다시 읽어 평점 순위표에 반영하고, 등록된 리뷰는 인기 급상승 순위에도 반영 (배치당 IN 쿼리 1번)
+    private void refreshRankings(List<IndexedRow> accepted, LocalDateTime createdDate) {
+        if (accepted.isEmpty()) {
+            return;
+        }
+        Set<Long> placeIds = new HashSet<>();
+        accepted.forEach(indexed -> placeIds.add(indexed.row().placeId()));
+
+        Map<Long, Place> places = new HashMap<>();
+        for (Place place : placeRepository.findAllWithCategoryByIdIn(placeIds)) {
+            places.put(place.getId(), place);
+            placeLeaderboard.upsertAfterCommit(place);
+        }
+        for (IndexedRow indexed : accepted) {
+            Place place = places.get(indexed.row().placeId());
+            if (place != null) {
+                trendingPlaces.reviewCreatedAfterCommit(place, indexed.row().rating(), createdDate);
+            }
+        }
+    }
+
+    private record IndexedRow(int index, ReviewBulkRow row, ReviewKey key) {
+    }
+}
@@ -1,20 +1,24 @@
 package com.backend.domain.review.service;
 
-import com.backend.domain.category.entity.Category;
 import com.backend.domain.category.repository.CategoryRepository;
 import com.backend.domain.member.entity.Member;
 import com.backend.domain.member.repository.MemberRepository;
 import com.backend.domain.place.entity.Place;
 import com.backend.domain.place.repository.PlaceRepository;
+import com.backend.domain.place.service.PlaceLeaderboard;
+import com.backend.domain.review.dto.RatingDistributionResponse;
 import com.backend.domain.review.dto.RecommendResponse;
 import com.backend.domain.review.dto.ReviewRequestDto;
 import com.backend.domain.review.dto.ReviewResponseDto;
+import com.backend.domain.review.dto.ReviewSliceResponse;
 import com.backend.domain.review.entity.Review;
 import com.backend.domain.review.repository.ReviewRepository;
 import com.backend.global.exception.BusinessException;
 import com.backend.global.response.ErrorCode;
-import jakarta.transaction.Transactional;
+import com.backend.global.transaction.OptimisticLockRetryExecutor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
@@ -27,128 +31,138 @@ public class ReviewService {
     private final MemberRepository memberRepository;
     private final PlaceRepository placeRepository;
     private final CategoryRepository categoryRepository;
+    private final OptimisticLockRetryExecutor optimisticLockRetryExecutor;
+    private final RecommendationEngine recommendationEngine;
+    private final PlaceLeaderboard placeLeaderboard;
+    private final TrendingPlaces trendingPlaces;
 
-    //리뷰 생성 메서드
-    @Transactional
+    //리뷰 생성 메서드 - 여행지 평점 집계(ratingSum, ratingCount, ratingAvg)도 같은 트랜잭션에서 갱신
+    // 중복 리뷰는 (member_id, place_id) 유니크 제약으로 판단 (사전 조회 없음)
     public ReviewResponseDto createReview(ReviewRequestDto reviewRequestDto, Long memberId) {
         long placeId = reviewRequestDto.placeId();
-
-        Member member = getMemberEntity(memberId);
-        Place place = getPlaceEntity(placeId);
-
-        Optional<Review> check = reviewRepository.findByMemberIdAndPlaceId(member.getId(), place.getId());
-        if(check.isPresent()){
-            throw new BusinessException(ErrorCode.GIVEN_REVIEW);
+        validateRating(reviewRequestDto.rating());
+
+        return optimisticLockRetryExecutor.execute(() -> {
+            Place place = placeRepository.findWithCategoryById(placeId).orElseThrow(
+                    () -> new BusinessException(ErrorCode.NOT_FOUND_PLACE)
+            );
+            Member member = memberRepository.getReferenceById(memberId);
+
+            Review review = new Review(place, member, reviewRequestDto.rating());
+            review.onCreate();
+            insertReview(review);
+            place.addRating(review.getRating());
+            placeLeaderboard.updateRatingAfterCommit(place);
+            trendingPlaces.reviewCreatedAfterCommit(place, review.getRating(), review.getCreatedDate());
+
+            // 응답의 로그인 ID 는 INSERT 가 성공한 뒤 프록시에서 한 번만 읽음 (PK 조회 1회)
+            return new ReviewResponseDto(member.getMemberId(), review.getId(), review.getRating(), review.getModifiedDate(), place.getCategory().getName(), place.getPlaceName(), place.getAddress(), place.getGu());
+        });
+    }
+
+    // IDENTITY 전략이라 save 시점에 INSERT 가 바로 실행되어 제약 조건 위반도 여기서 발생
+    private void insertReview(Review review) {
+        try {
+            reviewRepository.save(review);
+        } catch (DataIntegrityViolationException e) {
+            String message = e.getMostSpecificCause().getMessage();
+            String lower = message == null ? "" : message.toLowerCase();
+            if (lower.contains(Review.UK_MEMBER_PLACE)) {
+                throw new BusinessException(ErrorCode.GIVEN_REVIEW);
+            }
+            // 탈퇴 등으로 없는 회원
+            if (lower.contains(Review.FK_MEMBER)) {
+                throw new BusinessException(ErrorCode.MEMBER_NOT_FOUND);
+            }
+            // 조회 이후 삭제된 여행지
+            if (lower.contains(Review.FK_PLACE)) {
+                throw new BusinessException(ErrorCode.NOT_FOUND_PLACE);
+            }
+            throw e;
         }
-        Review review = new Review(place, member, reviewRequestDto.rating());
-        review.onCreate();
-        reviewRepository.save(review);
-
-        return new ReviewResponseDto(member.getMemberId(), review.getId(), review.getRating(), review.getModifiedDate(), place.getCategory().getName(), place.getPlaceName(), place.getAddress(), place.getGu());
     }
 
-    //리뷰 수정 메서드
-    @Transactional
-    public void modifyReview(Long memberId, int modifyRating){
-//        Member member = getMemberEntity(memberId);
-//        Review review = reviewRepository.findByMemberId(member.getId()).orElseThrow(
-//                () -> new BusinessException(ErrorCode.NOT_FOUND_REVIEW)
-//        );
-        Review review = getReviewWithAuth(memberId);
-        review.setRating(modifyRating);
-        review.onUpdate();
+    //리뷰 수정 메서드 - 본인이 작성한 리뷰(reviewId)의 별점만 수정
+    public void modifyReview(Long memberId, Long reviewId, int modifyRating){
+        validateRating(modifyRating);
+        optimisticLockRetryExecutor.run(() -> {
+            validateOwner(memberId, reviewId);
+            Review review = getReviewEntity(reviewId);
+            int oldRating = review.getRating();
+            review.setRating(modifyRating);
+            review.onUpdate();
+            review.getPlace().changeRating(oldRating, modifyRating);
+            placeLeaderboard.updateRatingAfterCommit(review.getPlace());
+            trendingPlaces.reviewChangedAfterCommit(review.getPlace().getId(), oldRating, modifyRating, review.getCreatedDate());
+        });
     }
 
     //리뷰 삭제 메서드
-    @Transactional
     public void deleteReview(Long memberId, long reviewId){
 //        Review review = getReviewEntity(reviewId);
 //        Member member = getMemberEntity(memberId);
 //        if(member.getId() != review.getMember().getId()){           //본인 검증? 이정도면 괜찮을지 걱정..
 //            throw new BusinessException(ErrorCode.ACCESS_DENIED);
 //        }
-        if(!validWithReviewId(memberId, reviewId)){
-            throw new BusinessException(ErrorCode.ACCESS_DENIED);
-        }
-        Review review = getReviewEntity(reviewId);
-        reviewRepository.delete(review);
+        optimisticLockRetryExecutor.run(() -> {
+            validateOwner(memberId, reviewId);
+            Review review = getReviewEntity(reviewId);
+            review.getPlace().removeRating(review.getRating());
+            placeLeaderboard.updateRatingAfterCommit(review.getPlace());
+            trendingPlaces.reviewDeletedAfterCommit(review.getPlace().getId(), review.getRating(), review.getCreatedDate());
+            reviewRepository.delete(review);
+        });
     }
 
-    //내가 작성한 리뷰 조회
-    public List<ReviewResponseDto> getMyReviews(Long memberId) {
-//        Member member = getMemberEntity(memberId);
-//        Review review = getReviewEntity(reviewId);
-//        Review review = reviewRepository.findByMemberId(member.getId()).orElseThrow(
-//                () -> new BusinessException(ErrorCode.NOT_FOUND_REVIEW)
-//        );
-        Review review = getReviewWithAuth(memberId);
-        Member member = getMemberEntity(memberId);
-        List<Review> myReviews = reviewRepository.findAllByMemberId(memberId);
-        if(myReviews.isEmpty()){
-            throw new BusinessException(ErrorCode.NOT_FOUND_REVIEW);
-        }
-        return myReviews.stream()
-                .map(ReviewResponseDto::from)
-                .toList();
+    //내가 작성한 리뷰 조회 - 커서 기반 (size개씩)
+    public ReviewSliceResponse getMyReviews(Long memberId, Long cursor, int size) {
+        return ReviewSliceResponse.of(
+                reviewRepository.findSliceByMemberId(memberId, cursor, PageRequest.of(0, size + 1)), size);
+    }
 
+    //전체 리뷰 조회 - 커서 기반 (size개씩)
+    public ReviewSliceResponse getAllReviews(Long cursor, int size) {
+        return ReviewSliceResponse.of(
+                reviewRepository.findSlice(cursor, PageRequest.of(0, size + 1)), size);
     }
 
-    //전체 리뷰 조회
-    public List<ReviewResponseDto> getAllReviews() {
-        return reviewRepository.findAll()
-                .stream()
-                .map(ReviewResponseDto::from)
-                .toList();
+    //여행지의 전체 리뷰 조회 - 커서 기반 (size개씩)
+    public ReviewSliceResponse getReviewList(Long placeId, Long cursor, int size) {
+        return ReviewSliceResponse.of(
+                reviewRepository.findSliceByPlaceId(placeId, cursor, PageRequest.of(0, size + 1)), size);
     }
 
-    //여행지의 전체 리뷰 조회
-    public List<ReviewResponseDto> getReviewList(Long placeId) {
-        return reviewRepository.findByPlaceId(placeId)
-                .stream()
-                .map(ReviewResponseDto::from)
-                .toList();
+    //여행지 별점 분포 - 여행지에 저장된 1~5점 개수만 읽음
+    public RatingDistributionResponse getRatingDistribution(Long placeId) {
+        return RatingDistributionResponse.from(getPlaceEntity(placeId));
     }
-    //"RESTAURANT", "LODGING", "NIGHTSPOT"
-    public List<RecommendResponse> recommendHotel() {
-        Map<Long, Double> placeAverageRatings = new HashMap<>();
-        Category category = categoryRepository.findByName("HOTEL").orElseThrow(
-                () -> new BusinessException(ErrorCode.NOT_FOUND_CATEGORY)
-        );
 
-        List<Map.Entry<Long, Double>> sortedList = getAllPlacesAndCalculate(category);
-        List<RecommendResponse> recommendList = new ArrayList<>();
-        for (long i = 0; i < 5 && i < sortedList.size(); i++) {       //여행지를 상위5개의 placeId를 가져와서 recommendList에 추가
-            long recommendedPlaceId = sortedList.get((int) i).getKey();
-            double averageRating = sortedList.get((int) i).getValue();
-            Place place = getPlaceEntity(recommendedPlaceId);
-            recommendList.add(RecommendResponse.from(place, averageRating));
+    //카테고리별 추천 - 정렬 방식(rank) 기준 상위 limit개 (offset부터)
+    public List<RecommendResponse> recommendByCategory(RecommendCategory recommendCategory, RankingStrategy strategy, int limit, int offset) {
+        String categoryName = recommendCategory.getCategoryName();
+        // 순위표에 있는 카테고리는 존재 확인 쿼리 생략
+        if (!placeLeaderboard.hasCategory(categoryName)) {
+            categoryRepository.findByName(categoryName).orElseThrow(
+                    () -> new BusinessException(ErrorCode.NOT_FOUND_CATEGORY)
+            );
         }
-        return recommendList;
-
+        return recommendationEngine.recommend(categoryName, strategy, limit, offset);
     }
 
-    public List<RecommendResponse> recommendByPlace(Long placeId) {
-        Map<Long, Double> placeAverageRatings = new HashMap<>(); //<placeId, averageRating> 으로 저장
-//        long placeSize = placeRepository.count();               //중간에 값이 삭제되고나면 id가 건더뛰게 되는 상황은 어떻게 처리? -> findAll()으로 변경
-        List<Place> findAllPlaces = placeRepository.findAll();
-        for (Place place : findAllPlaces) {
-            double averageRating = reviewRepository.findAverageRatingByPlaceId(place.getId());
-            placeAverageRatings.put(place.getId(), averageRating);
-        }
+    //카테고리별 인기 급상승 - 최근 리뷰 활동량(시간 감쇠) 상위 limit개
+    public List<RecommendResponse> trendingByCategory(RecommendCategory recommendCategory, int limit) {
+        return trendingPlaces.top(recommendCategory.getCategoryName(), limit);
+    }
 
-        //평균 평점 기준 내림차순 정렬 처음에 for 문으로 작성했다가 stream으로 변경했는데, 계속 에러떠서 결국 gpt의 도움을 받음.. 이런 방법은 괜찮은것인지?
-        List<Map.Entry<Long, Double>> sortedList = placeAverageRatings.entrySet().stream()
-                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()) // 값 기준 내림차순
-                .toList();
+    //전체 여행지 추천
+    public List<RecommendResponse> recommendByPlace(Long placeId, RankingStrategy strategy, int limit, int offset) {
+        return recommendationEngine.recommendAll(strategy, limit, offset);
+    }
 
-        List<RecommendResponse> recommendList = new ArrayList<>();
-        for (long i = 0; i < 5 && i < sortedList.size(); i++) {       //여행지를 상위5개의 placeId를 가져와서 recommendList에 추가
-            long recommendedPlaceId = sortedList.get((int) i).getKey();
-            double averageRating = sortedList.get((int) i).getValue();
-            Place place = getPlaceEntity(recommendedPlaceId);
-            recommendList.add(RecommendResponse.from(place, averageRating));
+    private void validateRating(int rating) {
+        if (rating < Review.MIN_RATING || rating > Review.MAX_RATING) {
+            throw new BusinessException(ErrorCode.INVALID_RATING);
         }
-        return recommendList;
     }
 
     public Review getReviewEntity(Long reviewId){
@@ -169,137 +183,14 @@ public class ReviewService {
         );
     }
 
-    public Review getReviewWithAuth(Long memberId){
-        Member member = getMemberEntity(memberId);
-        List<Review> reviews = reviewRepository.findAllByMemberId(member.getId());
-        if (reviews.isEmpty()) {
-            throw new BusinessException(ErrorCode.NOT_FOUND_REVIEW);
-        }
-
-        return reviews.get(0);
-    }
-
-    public boolean validWithReviewId(Long memberId, Long reviewId){
-        Review review = getReviewEntity(reviewId);
-        Member member = getMemberEntity(memberId);
-        return review.getMember().getId().equals(member.getId());
-    }
-
-    public List<RecommendResponse> recommendRestaurant() {
-        Map<Long, Double> placeAverageRatings = new HashMap<>();
-        Category category = categoryRepository.findByName("맛집").orElseThrow(
-                () -> new BusinessException(ErrorCode.NOT_FOUND_CATEGORY)
-        );
-
-        List<Map.Entry<Long, Double>> sortedList = getAllPlacesAndCalculate(category);
-        List<RecommendResponse> recommendList = new ArrayList<>();
-        for (long i = 0; i < 5 && i < sortedList.size(); i++) {       //여행지를 상위5개의 placeId를 가져와서 recommendList에 추가
-            long recommendedPlaceId = sortedList.get((int) i).getKey();
-            double averageRating = sortedList.get((int) i).getValue();
-            Place place = getPlaceEntity(recommendedPlaceId);
-            recommendList.add(RecommendResponse.from(place, averageRating));
-        }
-        return recommendList;
-
-
-    }
-
-    public List<Map.Entry<Long, Double>> getAllPlacesAndCalculate(Category category) {
-        Map<Long, Double> placeAverageRatings = new HashMap<>();
-        List<Place> findAllPlaces = placeRepository.findByCategory_Name(category.getName());
-        for(Place place : findAllPlaces){
-            double averageRating = reviewRepository.findAverageRatingByPlaceId(place.getId());
-            placeAverageRatings.put(place.getId(), averageRating);
+    // 본인 리뷰인지 존재 여부 쿼리 한 번으로 확인 (실패했을 때만 리뷰 존재 여부를 다시 확인)
+    private void validateOwner(Long memberId, Long reviewId) {
+        if (reviewRepository.existsByIdAndMemberId(reviewId, memberId)) {
+            return;
         }
-        List<Map.Entry<Long, Double>> sortedList = placeAverageRatings.entrySet().stream()
-                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()) // 값 기준 내림차순
-                .toList();
-        return sortedList;
-    }
-
-    public List<RecommendResponse> sortAllHotelReviews() {
-        Map<Long, Double> placeAverageRatings = new HashMap<>();
-        Category category = categoryRepository.findByName("HOTEL").orElseThrow(
-                () -> new BusinessException(ErrorCode.NOT_FOUND_CATEGORY)
-        );
-        List<Map.Entry<Long, Double>> sortedList = getAllPlacesAndCalculate(category);
-        List<RecommendResponse> responses = sortedList.stream()
-                .map(entry -> {
-                    Long placeId = entry.getKey();
-                    Double avgRating = entry.getValue();
-
-                    Place place = placeRepository.findById(placeId)
-                            .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_PLACE));
-
-                    return RecommendResponse.from(place, avgRating);
-                })
-                .toList();
-
-        return responses;
-    }
-    public List<RecommendResponse> sortAllNightSpotReviews() {
-        Map<Long, Double> placeAverageRatings = new HashMap<>();
-        Category category = categoryRepository.findByName("NIGHTSPOT").orElseThrow(
-                () -> new BusinessException(ErrorCode.NOT_FOUND_CATEGORY)
-        );
-
-        List<Map.Entry<Long, Double>> sortedList = getAllPlacesAndCalculate(category);
-        List<RecommendResponse> responses = sortedList.stream()
-                .map(entry -> {
-                    Long placeId = entry.getKey();
-                    Double avgRating = entry.getValue();
-
-                    Place place = placeRepository.findById(placeId)
-                            .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_PLACE));
-
-                    return RecommendResponse.from(place, avgRating);
-                })
-                .toList();
-
-        return responses;
-
-
-    }
-    public List<RecommendResponse> sortAllRestaurantReviews() {
-        Map<Long, Double> placeAverageRatings = new HashMap<>();
-        Category category = categoryRepository.findByName("맛집").orElseThrow(
-                () -> new BusinessException(ErrorCode.NOT_FOUND_CATEGORY)
-        );
-
-        List<Map.Entry<Long, Double>> sortedList = getAllPlacesAndCalculate(category);
-        List<RecommendResponse> responses = sortedList.stream()
-                .map(entry -> {
-                    Long placeId = entry.getKey();
-                    Double avgRating = entry.getValue();
-
-                    Place place = placeRepository.findById(placeId)
-                            .orElseThrow(() -> new BusinessException(ErrorCode.NOT_FOUND_PLACE));
-
-                    return RecommendResponse.from(place, avgRating);
-                })
-                .toList();
-
-        return responses;
-
-
-    }
-
-    public List<RecommendResponse> recommendNightSpot() {
-
-        Map<Long, Double> placeAverageRatings = new HashMap<>();
-        Category category = categoryRepository.findByName("NIGHTSPOT").orElseThrow(
-                () -> new BusinessException(ErrorCode.NOT_FOUND_CATEGORY)
-        );
-
-        List<Map.Entry<Long, Double>> sortedList = getAllPlacesAndCalculate(category);
-
-        List<RecommendResponse> recommendList = new ArrayList<>();
-        for (long i = 0; i < 5 && i < sortedList.size(); i++) {       //여행지를 상위5개의 placeId를 가져와서 recommendList에 추가
-            long recommendedPlaceId = sortedList.get((int) i).getKey();
-            double averageRating = sortedList.get((int) i).getValue();
-            Place place = getPlaceEntity(recommendedPlaceId);
-            recommendList.add(RecommendResponse.from(place, averageRating));
+        if (!reviewRepository.existsById(reviewId)) {
+            throw new BusinessException(ErrorCode.NOT_FOUND_REVIEW);
         }
-        return recommendList;
+        throw new BusinessException(ErrorCode.ACCESS_DENIED);
     }
-}
\ No newline at end of file
+}
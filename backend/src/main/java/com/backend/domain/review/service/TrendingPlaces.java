@@ -0,0 +1,248 @@
+package com.backend.domain.review.service;
+
+import com.backend.domain.place.dto.PlaceRankEntry;
+import com.backend.domain.place.entity.Place;
+import com.backend.domain.place.repository.PlaceRepository;
+import com.backend.domain.place.service.PlaceLeaderboard;
+import com.backend.domain.review.dto.RecommendResponse;
+import com.backend.domain.review.dto.ReviewActivity;
+import com.backend.domain.review.entity.Review;
+import com.backend.domain.review.repository.ReviewRepository;
+import com.backend.global.transaction.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+/**
+ * 카테고리별 인기 급상승 여행지 (시간 감쇠 리뷰 활동량)
+ * - 리뷰 하나의 기여도 = (별점 / 5) * 2^(-(지금 - 작성 시각) / 반감기)
+ * - forward decay : 기준 시각(epoch) 기준 exp(λ(t - epoch)) 로 저장해 두면 모든 점수에 같은 감쇠가 곱해지므로
+ *   순서는 변하지 않음 → 쓰기는 점수 증분만, 감쇠는 조회 시 한 번만 곱함
+ * - 조회는 skip-list 앞에서부터 K개 (O(K)), 쓰기는 여행지 항목 하나만 재배치
+ */
+@Slf4j
+@Component
+public class TrendingPlaces {
+
+    // 점수 내림차순, 동점이면 placeId 내림차순
+    private static final Comparator<TrendEntry> TRENDING_ORDER =
+            Comparator.comparingDouble(TrendEntry::score)
+                    .thenComparing(TrendEntry::placeId)
+                    .reversed();
+
+    // 반감기의 이 배수보다 오래된 리뷰는 기여도가 1/256 미만이라 재구성 시 제외
+    private static final int REBUILD_HALF_LIVES = 8;
+
+    private final ReviewRepository reviewRepository;
+    private final PlaceRepository placeRepository;
+    private final PlaceLeaderboard placeLeaderboard;
+    private final Duration halfLife;
+    private final double lambda;    // 밀리초당 감쇠율 = ln2 / 반감기
+
+    private final Map<String, Board> boards = new ConcurrentHashMap<>();
+    private final Map<Long, Board> boardByPlaceId = new ConcurrentHashMap<>();
+
+    private volatile long epochMillis = System.currentTimeMillis();
+
+    public TrendingPlaces(ReviewRepository reviewRepository,
+                          PlaceRepository placeRepository,
+                          PlaceLeaderboard placeLeaderboard,
+                          @Value("${custom.trending.half-life:7d}") Duration halfLife) {
+        this.reviewRepository = reviewRepository;
+        this.placeRepository = placeRepository;
+        this.placeLeaderboard = placeLeaderboard;
+        this.halfLife = halfLife;
+        this.lambda = Math.log(2) / halfLife.toMillis();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        boards.clear();
+        boardByPlaceId.clear();
+        epochMillis = System.currentTimeMillis();
+
+        LocalDateTime since = LocalDateTime.now().minus(halfLife.multipliedBy(REBUILD_HALF_LIVES));
+        try (Stream<ReviewActivity> activities = reviewRepository.streamActivitySince(since)) {
+            activities.forEach(activity -> add(activity.placeId(), activity.category(),
+                    contribution(activity.rating(), activity.createdDate())));
+        }
+
+        log.info("[Trending] 인기 급상승 순위 재구성 완료: halfLife={}, places={}", halfLife, boardByPlaceId.size());
+    }
+
+    /**
+     * 카테고리 상위 limit 개 - 점수는 현재 시각 기준으로 감쇠한 값
+     * - 삭제된 여행지를 걸러낸 뒤에 limit 개를 채우도록, 모자라면 다음 후보를 이어서 확인 (찾지 못한 항목은 순위에서 제거)
+     */
+    public List<RecommendResponse> top(String categoryName, int limit) {
+        Board board = boards.get(categoryName);
+        if (board == null) {
+            return List.of();
+        }
+
+        double decay = Math.exp(-lambda * (System.currentTimeMillis() - epochMillis));
+        List<RecommendResponse> result = new ArrayList<>(limit);
+        Iterator<TrendEntry> ranked = board.ranked.iterator();
+        while (result.size() < limit && ranked.hasNext()) {
+            List<TrendEntry> candidates = new ArrayList<>(limit - result.size());
+            while (candidates.size() < limit - result.size() && ranked.hasNext()) {
+                candidates.add(ranked.next());
+            }
+
+            Map<Long, PlaceRankEntry> places = findPlaces(candidates);
+            for (TrendEntry entry : candidates) {
+                PlaceRankEntry place = places.get(entry.placeId());
+                if (place == null) {
+                    removePlace(entry.placeId());
+                } else {
+                    result.add(RecommendResponse.from(place, entry.score() * decay));
+                }
+            }
+        }
+        return result;
+    }
+
+    // 표시 정보는 평점 순위표에서 가져오고, 없는 것만 한 번에 조회 (삭제된 여행지는 결과에 없음)
+    private Map<Long, PlaceRankEntry> findPlaces(List<TrendEntry> candidates) {
+        Map<Long, PlaceRankEntry> places = new HashMap<>();
+        List<Long> missing = new ArrayList<>();
+        for (TrendEntry entry : candidates) {
+            placeLeaderboard.find(entry.placeId()).ifPresentOrElse(
+                    place -> places.put(entry.placeId(), place),
+                    () -> missing.add(entry.placeId()));
+        }
+        if (!missing.isEmpty()) {
+            placeRepository.findAllWithCategoryByIdIn(missing).stream()
+                    .map(PlaceRankEntry::from)
+                    .forEach(place -> places.put(place.placeId(), place));
+        }
+        return places;
+    }
+
+    /** 리뷰 작성 (place 의 category 가 로딩되어 있어야 함) */
+    public void reviewCreatedAfterCommit(Place place, int rating, LocalDateTime createdDate) {
+        Long placeId = place.getId();
+        String categoryName = place.getCategory() != null ? place.getCategory().getName() : null;
+        AfterCommit.run(() -> add(placeId, categoryName, contribution(rating, createdDate)));
+    }
+
+    /** 리뷰 별점 수정 - 작성 시각 기준 기여도만 바뀜 */
+    public void reviewChangedAfterCommit(Long placeId, int oldRating, int newRating, LocalDateTime createdDate) {
+        AfterCommit.run(() -> adjust(placeId,
+                contribution(newRating, createdDate) - contribution(oldRating, createdDate)));
+    }
+
+    /** 리뷰 삭제 */
+    public void reviewDeletedAfterCommit(Long placeId, int rating, LocalDateTime createdDate) {
+        AfterCommit.run(() -> adjust(placeId, -contribution(rating, createdDate)));
+    }
+
+    /** 여행지 삭제 */
+    public void placeRemovedAfterCommit(Long placeId) {
+        AfterCommit.run(() -> removePlace(placeId));
+    }
+
+    /** 여행지 수정 - 카테고리가 바뀌었으면 점수를 그대로 새 카테고리 순위로 옮김 (place 의 category 가 로딩되어 있어야 함) */
+    public void placeUpdatedAfterCommit(Place place) {
+        Long placeId = place.getId();
+        String categoryName = place.getCategory() != null ? place.getCategory().getName() : null;
+        AfterCommit.run(() -> movePlace(placeId, categoryName));
+    }
+
+    /** 카테고리 이름 변경 시 순위 키 이동 */
+    public void renameCategoryAfterCommit(String oldName, String newName) {
+        AfterCommit.run(() -> {
+            Board board = boards.remove(oldName);
+            if (board != null) {
+                boards.put(newName, board);
+            }
+        });
+    }
+
+    private double contribution(int rating, LocalDateTime createdDate) {
+        long createdMillis = createdDate.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        return ((double) rating / Review.MAX_RATING) * Math.exp(lambda * (createdMillis - epochMillis));
+    }
+
+    private void add(Long placeId, String categoryName, double delta) {
+        if (categoryName == null) {
+            return;
+        }
+        Board board = boardByPlaceId.computeIfAbsent(placeId,
+                id -> boards.computeIfAbsent(categoryName, name -> new Board()));
+        board.add(placeId, delta);
+    }
+
+    private synchronized void removePlace(Long placeId) {
+        Board board = boardByPlaceId.remove(placeId);
+        if (board != null) {
+            board.remove(placeId);
+        }
+    }
+
+    private synchronized void movePlace(Long placeId, String categoryName) {
+        Board current = boardByPlaceId.get(placeId);
+        if (current == null) {
+            return;
+        }
+        if (categoryName == null) {
+            removePlace(placeId);
+            return;
+        }
+        Board target = boards.computeIfAbsent(categoryName, name -> new Board());
+        if (current != target) {
+            double score = current.remove(placeId);
+            boardByPlaceId.put(placeId, target);
+            target.add(placeId, score);
+        }
+    }
+
+    // 순위에 없는 여행지(재구성 범위 밖의 오래된 리뷰)는 기여도가 무시할 만큼 작으므로 건너뜀
+    private void adjust(Long placeId, double delta) {
+        Board board = boardByPlaceId.get(placeId);
+        if (board != null) {
+            board.add(placeId, delta);
+        }
+    }
+
+    private record TrendEntry(Long placeId, double score) {
+    }
+
+    private static final class Board {
+        private final ConcurrentSkipListSet<TrendEntry> ranked = new ConcurrentSkipListSet<>(TRENDING_ORDER);
+        private final Map<Long, TrendEntry> entries = new ConcurrentHashMap<>();
+
+        synchronized void add(Long placeId, double delta) {
+            TrendEntry old = entries.get(placeId);
+            double score = Math.max(0.0, (old == null ? 0.0 : old.score()) + delta);
+            if (old != null) {
+                ranked.remove(old);
+            }
+            TrendEntry updated = new TrendEntry(placeId, score);
+            entries.put(placeId, updated);
+            ranked.add(updated);
+        }
+
+        // 빠진 항목의 점수 (없으면 0)
+        synchronized double remove(Long placeId) {
+            TrendEntry old = entries.remove(placeId);
+            if (old == null) {
+                return 0.0;
+            }
+            ranked.remove(old);
+            return old.score();
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.backend.domain.category.entity.Category;
 import com.backend.domain.category.repository.CategoryRepository;
 import com.backend.domain.place.entity.Place;
 import com.backend.domain.place.repository.PlaceRepository;
+import com.backend.domain.place.service.PlaceLeaderboard;
 import com.backend.external.seoul.hotel.dto.HotelRow;
 import com.backend.external.seoul.hotel.dto.HotelRoot;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +24,7 @@ public class HotelImportService {
     private final HotelApiService hotelApiService;
     private final PlaceRepository placeRepository;
     private final CategoryRepository categoryRepository;
+    private final PlaceLeaderboard placeLeaderboard;
 
     @Transactional
     public int importAll() {
@@ -66,6 +68,7 @@ public class HotelImportService {
                         .build();
 
                 placeRepository.save(place);
+                placeLeaderboard.upsertAfterCommit(place);
                 saved++;
             }
 
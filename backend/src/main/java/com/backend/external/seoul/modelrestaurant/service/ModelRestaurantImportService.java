@@ -4,16 +4,23 @@ import com.backend.domain.category.entity.Category;
 import com.backend.domain.category.repository.CategoryRepository;
 import com.backend.domain.place.entity.Place;
 import com.backend.domain.place.repository.PlaceRepository;
+import com.backend.domain.place.service.PlaceLeaderboard;
 import com.backend.external.seoul.modelrestaurant.dto.ModelRestaurantPage;
 import com.backend.external.seoul.modelrestaurant.dto.ModelRestaurantRow;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.env.Environment;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 @Service
 @RequiredArgsConstructor
@@ -23,8 +30,14 @@ public class ModelRestaurantImportService {
     private final GenericModelRestaurantApiService api;
     private final PlaceRepository placeRepository;
     private final CategoryRepository categoryRepository;
+    private final PlaceLeaderboard placeLeaderboard;
+    private final TransactionTemplate transactionTemplate;
 
     private static final String CATEGORY_NAME = "맛집";
+    private static final int MAX_FETCH_THREADS = 8;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
 
     public List<String> districts() {
         String csv = env.getProperty("modelrestaurant.districts", "");
@@ -34,27 +47,49 @@ public class ModelRestaurantImportService {
                 .toList();
     }
 
-    @Transactional
+    // 구별 API 조회는 트랜잭션 밖에서 동시에 (가상 스레드 프로필이면 가상 스레드), 저장만 한 트랜잭션으로
     public int importAllDistricts() {
-        int total = 0;
-        for (String d : districts()) {
-            total += importByDistrict(d);
+        List<String> districts = districts();
+        if (districts.isEmpty()) return 0;
+
+        List<ModelRestaurantRow> rows = new ArrayList<>();
+        try (ExecutorService executor = fetchExecutor(districts.size())) {
+            List<Future<List<ModelRestaurantRow>>> futures = districts.stream()
+                    .map(d -> executor.submit(() -> fetchDistrict(d)))
+                    .toList();
+            for (Future<List<ModelRestaurantRow>> future : futures) {
+                rows.addAll(await(future));
+            }
         }
-        return total;
+        return saveRows(rows);
     }
 
-    @Transactional
     public int importByDistrict(String district) {
-        Category category = getOrCreateCategory(CATEGORY_NAME);
+        return saveRows(fetchDistrict(district));
+    }
 
-        int start = 1, page = 100, saved = 0;
+    // 한 구의 전체 페이지 조회 (DB 커넥션을 잡지 않음)
+    private List<ModelRestaurantRow> fetchDistrict(String district) {
+        List<ModelRestaurantRow> out = new ArrayList<>();
+        int start = 1, page = 100;
         while (true) {
             int end = start + page - 1;
 
             ModelRestaurantPage pageData = api.fetch(district, start, end);
             var rows = pageData.rows();
             if (rows == null || rows.isEmpty()) break;
+            out.addAll(rows);
+
+            if (rows.size() < page) break; // 마지막 페이지
+            start = end + 1;
+        }
+        return out;
+    }
 
+    private int saveRows(List<ModelRestaurantRow> rows) {
+        Integer saved = transactionTemplate.execute(status -> {
+            Category category = getOrCreateCategory(CATEGORY_NAME);
+            int count = 0;
             for (ModelRestaurantRow r : rows) {
                 if (r.name().isBlank() || r.address().isBlank()) continue;
                 if (placeRepository.existsByPlaceNameAndAddress(r.name(), r.address())) continue;
@@ -70,13 +105,30 @@ public class ModelRestaurantImportService {
                         .build();
 
                 placeRepository.save(p);
-                saved++;
+                placeLeaderboard.upsertAfterCommit(p);
+                count++;
             }
+            return count;
+        });
+        return saved == null ? 0 : saved;
+    }
 
-            if (rows.size() < page) break; // 마지막 페이지
-            start = end + 1;
+    private ExecutorService fetchExecutor(int districtCount) {
+        return virtualThreads
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(Math.min(districtCount, MAX_FETCH_THREADS));
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("모범음식점 조회가 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) throw re;
+            throw new IllegalStateException("모범음식점 조회 실패", e.getCause());
         }
-        return saved;
     }
 
     private Category getOrCreateCategory(String name) {
@@ -5,6 +5,7 @@ import com.backend.domain.category.entity.Category;
 import com.backend.domain.category.repository.CategoryRepository;
 import com.backend.domain.place.entity.Place;
 import com.backend.domain.place.repository.PlaceRepository;
+import com.backend.domain.place.service.PlaceLeaderboard;
 import com.backend.external.seoul.nightspot.dto.dto.NightSpotResponse;
 import com.backend.external.seoul.nightspot.dto.dto.NightSpotRoot;
 import com.backend.external.seoul.nightspot.dto.dto.NightSpotRow;
@@ -21,6 +22,7 @@ public class NightSpotImportService {
     private final NightSpotApiService apiService;
     private final PlaceRepository placeRepository;
     private final CategoryRepository categoryRepository;
+    private final PlaceLeaderboard placeLeaderboard;
 
     private static final String NIGHTSPOT = "NIGHTSPOT";
 
@@ -53,6 +55,7 @@ public class NightSpotImportService {
                     .build();
 
             placeRepository.save(p);
+            placeLeaderboard.upsertAfterCommit(p);
             saved++;
         }
         return saved;
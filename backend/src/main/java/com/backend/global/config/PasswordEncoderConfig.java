@@ -1,15 +1,26 @@
 package com.backend.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+/**
+ * 비밀번호 해시 설정
+ * - BCrypt 작업 비용(cost)은 custom.security.bcrypt-strength 로 조정 (4~31, 1 올릴 때마다 해시 시간 2배)
+ * - 비용을 올리면 기존 해시는 다음 로그인 때 새 비용으로 다시 저장됨 (AuthService.login)
+ * - 비용별 처리 시간은 src/jmh 의 PasswordEncoderBenchmark 로 측정 (./gradlew jmh)
+ */
 @Configuration
 public class PasswordEncoderConfig {
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${custom.security.bcrypt-strength:10}") int strength) {
+        return bcrypt(strength);
+    }
+
+    public static PasswordEncoder bcrypt(int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 }
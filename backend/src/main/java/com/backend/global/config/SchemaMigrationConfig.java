@@ -0,0 +1,31 @@
+package com.backend.global.config;
+
+import com.backend.global.migration.RefreshTokenSchemaMigration;
+import com.backend.global.migration.ReviewSchemaMigration;
+import org.springframework.boot.autoconfigure.orm.jpa.EntityManagerFactoryDependsOnPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * ddl-auto: update 로 처리할 수 없는 스키마 변경을 Hibernate 초기화 전에 실행
+ */
+@Configuration
+public class SchemaMigrationConfig {
+
+    @Bean
+    public RefreshTokenSchemaMigration refreshTokenSchemaMigration(JdbcTemplate jdbcTemplate) {
+        return new RefreshTokenSchemaMigration(jdbcTemplate);
+    }
+
+    @Bean
+    public ReviewSchemaMigration reviewSchemaMigration(JdbcTemplate jdbcTemplate) {
+        return new ReviewSchemaMigration(jdbcTemplate);
+    }
+
+    // EntityManagerFactory(Hibernate 스키마 갱신)가 마이그레이션 빈 이후에 만들어지도록
+    @Bean
+    public static EntityManagerFactoryDependsOnPostProcessor schemaMigrationDependsOn() {
+        return new EntityManagerFactoryDependsOnPostProcessor(RefreshTokenSchemaMigration.class, ReviewSchemaMigration.class);
+    }
+}
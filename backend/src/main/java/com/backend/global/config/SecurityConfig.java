@@ -1,6 +1,7 @@
 package com.backend.global.config;
 
 import com.backend.global.security.JwtAuthenticationFilter;
+import com.backend.global.security.RoutePolicy;
 import com.backend.global.security.handler.JwtAccessDeniedHandler;
 import com.backend.global.security.handler.JwtAuthenticationEntryPoint;
 import lombok.RequiredArgsConstructor;
@@ -29,6 +30,7 @@ public class SecurityConfig {
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
+    private final RoutePolicy routePolicy;
 
     @Bean
 
@@ -57,27 +59,11 @@ public class SecurityConfig {
                 // 3. 요청별 접근 권한 설정
                 .authorizeHttpRequests(auth -> auth
 
-                        // 1. 인증이 필요 없는 요청
-                        .requestMatchers(
-                                "/api/members/signup",
-                                "/api/auth/**",
-                                "/h2-console/**"
-                        ).permitAll()
+                        // 1. 인증이 필요 없는 요청 (회원가입, 인증, H2 콘솔, 스웨거) - RoutePolicy 에서 관리
+                        .requestMatchers(routePolicy.permitAllPatterns()).permitAll()
 
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
 
-                        //TODO: 수정해야 함
-
-                        // 4. 스웨거 관련 열어주기
-                        .requestMatchers(
-                                "/swagger-ui/",
-                                "/swagger-ui/index.html",
-                                "/swagger-ui.html",
-                                "/swagger-ui/**",
-                                "/v3/api-docs/**",
-                                "/v3/api-docs.yaml",
-                                "/webjars/**"
-                        ).permitAll()
                         .anyRequest().authenticated()
 
                 )
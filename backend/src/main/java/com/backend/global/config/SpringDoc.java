@@ -1,5 +1,6 @@
 package com.backend.global.config;
 
+import com.backend.global.security.CurrentMember;
 import io.swagger.v3.oas.annotations.OpenAPIDefinition;
 import io.swagger.v3.oas.annotations.enums.SecuritySchemeIn;
 import io.swagger.v3.oas.annotations.enums.SecuritySchemeType;
@@ -7,6 +8,7 @@ import io.swagger.v3.oas.annotations.info.Info;
 import io.swagger.v3.oas.annotations.security.SecurityScheme;
 import io.swagger.v3.oas.annotations.security.SecuritySchemes;
 import org.springdoc.core.models.GroupedOpenApi;
+import org.springdoc.core.utils.SpringDocUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -20,6 +22,12 @@ import org.springframework.context.annotation.Configuration;
 @Configuration
 @OpenAPIDefinition(info = @Info(title = "파이팀 팀 프로젝트 API 서버", version = "beta",description = "데브코스 백엔드 7회차 9기 2차 프로젝트 9팀 파이팀 API 명세입니다."))
 public class SpringDoc {
+
+    // @CurrentMember 파라미터는 요청 파라미터가 아니므로 명세에서 제외 (Authorization 헤더로 인증)
+    static {
+        SpringDocUtils.getConfig().addAnnotationsToIgnore(CurrentMember.class);
+    }
+
     @Bean
     public GroupedOpenApi groupApiV1() {
         return GroupedOpenApi.builder()
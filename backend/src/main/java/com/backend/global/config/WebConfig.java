@@ -1,10 +1,14 @@
 package com.backend.global.config;
 
+import com.backend.global.security.CurrentMemberArgumentResolver;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
 public class WebConfig {
 
@@ -20,6 +24,12 @@ public class WebConfig {
                         .allowedHeaders("*")
                         .exposedHeaders("Authorization"); // ✅ 토큰 응답 헤더 노출 허용
             }
+
+            // @CurrentMember -> 필터에서 인증된 회원 PK
+            @Override
+            public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+                resolvers.add(new CurrentMemberArgumentResolver());
+            }
         };
     }
 }
@@ -3,6 +3,8 @@ package com.backend.global.exception;
 import com.backend.global.response.ApiResponse;
 import com.backend.global.response.ErrorCode;
 import com.backend.global.response.ResponseCode;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -33,6 +35,24 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(apiResponse, HttpStatus.BAD_REQUEST);
     }
 
+    // @Validated 컨트롤러의 @RequestParam/@PathVariable 제약 위반 (예: limit, offset, size 범위) - 클라이언트 입력 오류이므로 400
+    @ExceptionHandler(ConstraintViolationException.class)
+    public ResponseEntity<?> handleConstraintViolation(ConstraintViolationException e) {
+        String errorMessage = e.getConstraintViolations()
+                .stream()
+                .map(ConstraintViolation::getMessage)
+                .collect(Collectors.joining(", "));
+        log.warn("Validation Failed : {}", errorMessage);
+
+        ApiResponse<String> apiResponse = new ApiResponse<>(
+                ResponseCode.BAD_REQUEST.getCode(),
+                ResponseCode.BAD_REQUEST.getMessage(),
+                errorMessage
+        );
+
+        return new ResponseEntity<>(apiResponse, HttpStatus.BAD_REQUEST);
+    }
+
     @ExceptionHandler(BusinessException.class)
     public ResponseEntity<ApiResponse<Void>> handleBusinessException(BusinessException e) {
         ErrorCode errorCode = e.getErrorCode();
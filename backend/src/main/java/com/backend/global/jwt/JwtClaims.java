@@ -0,0 +1,25 @@
+package com.backend.global.jwt;
+
+import com.backend.domain.member.entity.MemberStatus;
+import com.backend.domain.member.entity.Role;
+
+import java.util.Date;
+
+/**
+ * 서명 검증을 마친 JWT 의 Claims
+ * - 요청당 한 번만 파싱해 request attribute 와 Authentication.details 에 보관
+ */
+public record JwtClaims(
+        Long memberId,
+        Role role,
+        MemberStatus status,    // access 토큰에만 존재
+        String type,
+        Date issuedAt,          // 회원 토큰 차단 시점과 비교 (MemberRevocationRegistry)
+        Date expiration
+) {
+    public static final String REQUEST_ATTRIBUTE = JwtClaims.class.getName();
+
+    public boolean isAccessToken() {
+        return "access".equals(type);
+    }
+}
@@ -1,5 +1,6 @@
 package com.backend.global.jwt;
 
+import com.backend.domain.member.entity.MemberStatus;
 import com.backend.domain.member.entity.Role;
 import com.backend.global.security.CustomUserDetails;
 import com.backend.global.security.CustomUserDetailsService;
@@ -12,13 +13,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
-import java.util.List;
+import java.util.UUID;
 
 @Getter
 @Component
@@ -28,6 +28,9 @@ public class JwtTokenProvider {
     @Autowired
     private CustomUserDetailsService customUserDetailsService;
 
+    @Autowired
+    private VerifiedTokenCache verifiedTokenCache;
+
     @Value("${custom.jwt.secret-key}")
     private String secretKey;
 
@@ -37,6 +40,10 @@ public class JwtTokenProvider {
     @Value("${custom.jwt.refresh-token.expire-time}")
     private long REFRESH_TOKEN_EXPIRE_TIME;
 
+    // true 면 회원 DB 조회 없이 Claims 만으로 인증 객체 생성 (상태 변경은 MemberRevocationRegistry 로 전파)
+    @Value("${custom.jwt.stateless-principal:false}")
+    private boolean statelessPrincipal;
+
     private SecretKey key;
 
     @PostConstruct
@@ -44,46 +51,65 @@ public class JwtTokenProvider {
         this.key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
     }
 
-    // Access Token 생성 - 로그인 후 인증
-    public String generateAccessToken(Long memberId, Role role) {
-        return generateToken(memberId, role, ACCESS_TOKEN_EXPIRE_TIME, "access");
+    // Access Token 생성 - 로그인 후 인증 (회원 상태 포함)
+    public String generateAccessToken(Long memberId, Role role, MemberStatus status) {
+        return generateToken(memberId, role, status, ACCESS_TOKEN_EXPIRE_TIME, "access");
     }
 
     // Refresh Token 생성 - Access 만료 시 재발급
     public String generateRefreshToken(Long memberId, Role role) {
-        return generateToken(memberId, role, REFRESH_TOKEN_EXPIRE_TIME, "refresh");
+        return generateToken(memberId, role, null, REFRESH_TOKEN_EXPIRE_TIME, "refresh");
     }
 
     // 공통 토큰 생성 로직
-    private String generateToken(Long memberId, Role role, long expireTime, String type) {
+    private String generateToken(Long memberId, Role role, MemberStatus status, long expireTime, String type) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + expireTime);
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+                .id(UUID.randomUUID().toString())   // jti - 같은 초에 발급돼도 토큰(해시)이 겹치지 않도록
                 .subject(String.valueOf(memberId))
                 .issuedAt(now)
                 .expiration(expiry)
                 .claim("role", role.name())
-                .claim("type", type)
-                .signWith(key)
-                .compact();
+                .claim("type", type);
+        if (status != null) {
+            builder.claim("status", status.name());
+        }
+        return builder.signWith(key).compact();
     }
 
-    // 토큰 유효성 검증 (서명 검증 + 만료 체크)
-    public TokenStatus validateTokenStatus(String token) {
+    // 토큰 파싱 (서명 검증 + 만료 체크를 한 번에) - 요청당 한 번만 호출
+    // 이미 검증한 토큰이면 캐시된 Claims 사용 (캐시 항목은 토큰 exp 에 만료)
+    public ParsedToken parse(String token) {
+        if (token == null || token.isBlank()) {
+            return ParsedToken.of(TokenStatus.INVALID);
+        }
+
+        String tokenHash = TokenHasher.sha256(token);
+        JwtClaims cached = verifiedTokenCache.get(tokenHash);
+        if (cached != null) {
+            return ParsedToken.valid(cached);
+        }
 
         try {
-            Jwts.parser().verifyWith(key).build().parse(token);
-            return TokenStatus.VALID;
+            JwtClaims claims = toJwtClaims(parseClaims(token));
+            verifiedTokenCache.put(tokenHash, claims);
+            return ParsedToken.valid(claims);
         } catch (ExpiredJwtException e) {
             log.info("== 토큰이 만료되었습니다 ==");
-            return TokenStatus.EXPIRED;
+            return ParsedToken.of(TokenStatus.EXPIRED);
         } catch (JwtException | IllegalArgumentException e) {
             log.info("== 유효하지 않은 토큰입니다 ==");
-            return TokenStatus.INVALID;
+            return ParsedToken.of(TokenStatus.INVALID);
         }
     }
 
+    // 토큰 유효성 검증 (서명 검증 + 만료 체크)
+    public TokenStatus validateTokenStatus(String token) {
+        return parse(token).status();
+    }
+
     /** 토큰 파싱 관련 (Claims 읽기) */
 
     // Claims 파싱 (JWT → 내부 데이터 복호화 + 서명 검증)
@@ -96,38 +122,36 @@ public class JwtTokenProvider {
                 .getPayload();
     }
 
-    // 토큰에서 memberId(subject) 추출
-    public Long getMemberIdFromToken(String token) {
-        // subject는 String으로 저장되어 있으므로 Long으로 변환
-        return Long.valueOf(parseClaims(token).getSubject());
-    }
-
-    // 토큰에서 role 추출
-    public Role getRoleFromToken(String token) {
-        Object role = parseClaims(token).get("role");
-        return Role.valueOf(role.toString());
+    private JwtClaims toJwtClaims(Claims claims) {
+        Object role = claims.get("role");
+        Object status = claims.get("status");
+        Object type = claims.get("type");
+        return new JwtClaims(
+                // subject는 String으로 저장되어 있으므로 Long으로 변환
+                Long.valueOf(claims.getSubject()),
+                role != null ? Role.valueOf(role.toString()) : null,
+                status != null ? MemberStatus.valueOf(status.toString()) : null,
+                type != null ? type.toString() : "unknown",
+                claims.getIssuedAt(),
+                claims.getExpiration()
+        );
     }
 
     // JWT → Authentication으로 변환 (스프링 시큐리티는 “Authentication 객체”를 기준으로 사용자 인증 여부를 판단)
-    public Authentication getAuthentication(String token) {
-        Long memberPk = getMemberIdFromToken(token);
-        Role role = getRoleFromToken(token);
-
-        // DB에서 Member 엔티티 조회 후 CustomUserDetails 생성
-        CustomUserDetails userDetails =
-                (CustomUserDetails) customUserDetailsService.loadUserById(memberPk);
+    public Authentication getAuthentication(JwtClaims claims) {
+        // stateless 모드면 Claims 로, 아니면 DB에서 Member 엔티티 조회 후 CustomUserDetails 생성
+        CustomUserDetails userDetails = statelessPrincipal
+                ? new CustomUserDetails(claims)
+                : (CustomUserDetails) customUserDetailsService.loadUserById(claims.memberId());
 
-        return new UsernamePasswordAuthenticationToken(
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                 userDetails,  // principal을 CustomUserDetails로
                 null,
                 userDetails.getAuthorities()
         );
-    }
-
-    // type 조회용 메서드 추가
-    public String getTokenType(String token) {
-        Object type = parseClaims(token).get("type");
-        return type != null ? type.toString() : "unknown";
+        // 컨트롤러/서비스에서 토큰을 다시 파싱하지 않도록 검증된 Claims 를 함께 보관
+        authentication.setDetails(claims);
+        return authentication;
     }
 
     /** 토큰 만료시간 조회 (쿠키 설정 등에서 사용) */
@@ -0,0 +1,21 @@
+package com.backend.global.jwt;
+
+/**
+ * 토큰 파싱 결과 - 상태(VALID/EXPIRED/INVALID)와 VALID 일 때의 Claims
+ */
+public record ParsedToken(
+        TokenStatus status,
+        JwtClaims claims
+) {
+    static ParsedToken valid(JwtClaims claims) {
+        return new ParsedToken(TokenStatus.VALID, claims);
+    }
+
+    static ParsedToken of(TokenStatus status) {
+        return new ParsedToken(status, null);
+    }
+
+    public boolean isValid() {
+        return status == TokenStatus.VALID;
+    }
+}
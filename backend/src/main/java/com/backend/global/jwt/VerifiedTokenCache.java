@@ -0,0 +1,65 @@
+package com.backend.global.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서명 검증을 마친 AccessToken 캐시
+ * - 키는 토큰 문자열의 SHA-256 (토큰 원문은 보관하지 않음)
+ * - 항목마다 토큰의 exp 시각에 만료되므로 만료된 토큰이 캐시로 통과되는 일은 없음
+ * - 크기 제한(LRU에 가까운 W-TinyLFU), hit/miss 는 jwt.verified-token 캐시 메트릭으로 노출
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "jwt.verified-token";
+
+    private final Cache<String, JwtClaims> cache;
+
+    public VerifiedTokenCache(@Value("${custom.jwt.verified-cache.max-size:10000}") long maxSize,
+                              MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<String, JwtClaims>() {
+                    @Override
+                    public long expireAfterCreate(String key, JwtClaims claims, long currentTime) {
+                        return remainingNanos(claims);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, JwtClaims claims, long currentTime, long currentDuration) {
+                        return remainingNanos(claims);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, JwtClaims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public JwtClaims get(String tokenHash) {
+        return cache.getIfPresent(tokenHash);
+    }
+
+    public void put(String tokenHash, JwtClaims claims) {
+        if (claims.expiration() != null) {
+            cache.put(tokenHash, claims);
+        }
+    }
+
+    private static long remainingNanos(JwtClaims claims) {
+        long remainingMillis = claims.expiration().getTime() - System.currentTimeMillis();
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remainingMillis));
+    }
+}
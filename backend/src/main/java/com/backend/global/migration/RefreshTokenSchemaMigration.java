@@ -0,0 +1,101 @@
+package com.backend.global.migration;
+
+import com.backend.global.jwt.TokenHasher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * refresh_token 테이블을 원문 토큰(token) 저장 방식에서 해시(token_hash) + family_id 방식으로 변환
+ * - ddl-auto: update 는 기존 token(NOT NULL, UNIQUE) 컬럼을 지우지 않고, 행이 있는 테이블에 NOT NULL 컬럼도 추가하지 못하므로
+ *   Hibernate 스키마 갱신보다 먼저 실행 (SchemaMigrationConfig 에서 EntityManagerFactory 가 이 빈에 의존하도록 설정)
+ * - token 컬럼이 없으면(새 DB 이거나 이미 변환됨) 아무것도 하지 않음, 중간에 실패해도 다시 실행하면 이어서 진행
+ * - 수동으로 적용할 때의 MySQL DDL
+ *   DELETE FROM refresh_token WHERE expiry <= NOW() OR member_pk IS NULL OR token IS NULL;
+ *   ALTER TABLE refresh_token ADD COLUMN token_hash VARCHAR(44), ADD COLUMN family_id VARCHAR(36);
+ *   UPDATE refresh_token SET token_hash = TO_BASE64(UNHEX(SHA2(token, 256))), family_id = UUID();
+ *   ALTER TABLE refresh_token MODIFY token_hash VARCHAR(44) NOT NULL, MODIFY family_id VARCHAR(36) NOT NULL, MODIFY member_pk BIGINT NOT NULL;
+ *   ALTER TABLE refresh_token DROP COLUMN token;
+ *   (token_hash 유니크 제약과 인덱스는 이후 Hibernate 스키마 갱신이 추가)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RefreshTokenSchemaMigration implements InitializingBean {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!columnExists("token")) {
+            return;
+        }
+        log.info("[Migration] refresh_token 원문 토큰 컬럼을 해시 컬럼으로 변환 시작");
+
+        // 만료되었거나 회원 정보가 없는 행은 옮길 필요 없음
+        jdbcTemplate.update("DELETE FROM refresh_token WHERE expiry <= ? OR member_pk IS NULL OR token IS NULL",
+                Timestamp.valueOf(LocalDateTime.now()));
+
+        // 1. 새 컬럼은 nullable 로 추가
+        if (!columnExists("token_hash")) {
+            jdbcTemplate.execute("ALTER TABLE refresh_token ADD COLUMN token_hash VARCHAR(44)");
+        }
+        if (!columnExists("family_id")) {
+            jdbcTemplate.execute("ALTER TABLE refresh_token ADD COLUMN family_id VARCHAR(36)");
+        }
+
+        // 2. 기존 토큰은 해시로 옮기고 로그인마다 별도 family 로 취급 (로그인 상태 유지)
+        List<Object[]> rows = jdbcTemplate.query(
+                "SELECT id, token FROM refresh_token WHERE token_hash IS NULL",
+                (rs, rowNum) -> new Object[]{rs.getLong(1), rs.getString(2)});
+        jdbcTemplate.batchUpdate("UPDATE refresh_token SET token_hash = ?, family_id = ? WHERE id = ?",
+                rows, BATCH_SIZE, (ps, row) -> {
+                    ps.setString(1, TokenHasher.sha256((String) row[1]));
+                    ps.setString(2, UUID.randomUUID().toString());
+                    ps.setLong(3, (Long) row[0]);
+                });
+
+        // 3. 값이 모두 채워진 뒤 NOT NULL 로 강화
+        setNotNull("token_hash", "VARCHAR(44)");
+        setNotNull("family_id", "VARCHAR(36)");
+        setNotNull("member_pk", "BIGINT");
+
+        // 4. 원문 토큰 컬럼(및 유니크 제약) 제거 - 마지막에 지워야 중간 실패 시 다시 실행됨
+        jdbcTemplate.execute("ALTER TABLE refresh_token DROP COLUMN token");
+
+        log.info("[Migration] refresh_token 변환 완료: rehashed={}", rows.size());
+    }
+
+    // 테이블이나 컬럼이 없으면 조회가 실패함 (DB 마다 다른 메타데이터 대소문자 처리를 피하기 위함)
+    private boolean columnExists(String column) {
+        try {
+            jdbcTemplate.queryForList("SELECT " + column + " FROM refresh_token WHERE 1 = 0");
+            return true;
+        } catch (DataAccessException e) {
+            return false;
+        }
+    }
+
+    private void setNotNull(String column, String type) {
+        if (isH2()) {
+            jdbcTemplate.execute("ALTER TABLE refresh_token ALTER COLUMN " + column + " SET NOT NULL");
+        } else {
+            jdbcTemplate.execute("ALTER TABLE refresh_token MODIFY " + column + " " + type + " NOT NULL");
+        }
+    }
+
+    private boolean isH2() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return "H2".equalsIgnoreCase(product);
+    }
+}
@@ -0,0 +1,146 @@
+package com.backend.global.migration;
+
+import com.backend.domain.review.entity.Review;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 기존 review 테이블에 (member_id, place_id) 유니크 제약과 이름이 고정된 외래 키(fk_review_member, fk_review_place) 적용
+ * - 리뷰 등록은 중복/없는 회원/없는 여행지를 제약 이름으로 구분하므로 (ReviewService.insertReview) 제약이 반드시 있어야 함
+ * - ddl-auto: update 는 Hibernate 가 만든 기존 FK 이름을 바꾸지 않고, 중복 행이 있으면 유니크 제약 추가가 실패해도 로그만 남기므로
+ *   Hibernate 스키마 갱신보다 먼저 실행 (SchemaMigrationConfig)
+ * - review 테이블이 없으면(새 DB) 아무것도 하지 않음, 이미 적용된 단계는 건너뛰므로 다시 실행해도 됨
+ * - 수동으로 적용할 때의 MySQL DDL
+ *   DELETE r FROM review r JOIN review newer ON newer.member_id = r.member_id AND newer.place_id = r.place_id AND newer.id > r.id;
+ *   ALTER TABLE review ADD CONSTRAINT uk_review_member_place UNIQUE (member_id, place_id);
+ *   ALTER TABLE review DROP FOREIGN KEY <기존 member_id FK>, DROP FOREIGN KEY <기존 place_id FK>;
+ *   ALTER TABLE review ADD CONSTRAINT fk_review_member FOREIGN KEY (member_id) REFERENCES member (id),
+ *                      ADD CONSTRAINT fk_review_place FOREIGN KEY (place_id) REFERENCES place (id);
+ *   (중복 리뷰를 지운 여행지는 평점 집계를 다시 계산)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ReviewSchemaMigration implements InitializingBean {
+
+    private static final int BATCH_SIZE = 500;
+
+    // 지운 중복 리뷰가 있던 여행지의 평점 집계 재계산 (PlaceRatingReconciler 와 같은 식)
+    private static final String RECALCULATE_PLACE_SQL = """
+            UPDATE place p
+            SET rating_sum = COALESCE((SELECT SUM(r.rating) FROM review r WHERE r.place_id = p.id), 0),
+                rating_count = (SELECT COUNT(*) FROM review r WHERE r.place_id = p.id),
+                rating_avg = COALESCE((SELECT AVG(r.rating * 1.0) FROM review r WHERE r.place_id = p.id), 0),
+                rating1_count = (SELECT COUNT(*) FROM review r WHERE r.place_id = p.id AND r.rating = 1),
+                rating2_count = (SELECT COUNT(*) FROM review r WHERE r.place_id = p.id AND r.rating = 2),
+                rating3_count = (SELECT COUNT(*) FROM review r WHERE r.place_id = p.id AND r.rating = 3),
+                rating4_count = (SELECT COUNT(*) FROM review r WHERE r.place_id = p.id AND r.rating = 4),
+                rating5_count = (SELECT COUNT(*) FROM review r WHERE r.place_id = p.id AND r.rating = 5),
+                version = COALESCE(p.version, 0) + 1
+            WHERE p.id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!columnExists("review", "id")) {
+            return;
+        }
+        if (!constraintExists(Review.UK_MEMBER_PLACE)) {
+            addUniqueKey();
+        }
+        renameForeignKey("member_id", Review.FK_MEMBER, "member");
+        renameForeignKey("place_id", Review.FK_PLACE, "place");
+    }
+
+    // 같은 회원/여행지의 리뷰는 가장 최근(id 가 가장 큰) 것만 남기고 삭제한 뒤 유니크 제약 추가
+    private void addUniqueKey() {
+        List<long[]> duplicates = jdbcTemplate.query("""
+                        SELECT r.id, r.place_id FROM review r
+                        WHERE EXISTS (SELECT 1 FROM review newer
+                                      WHERE newer.member_id = r.member_id AND newer.place_id = r.place_id AND newer.id > r.id)
+                        """,
+                (rs, rowNum) -> new long[]{rs.getLong(1), rs.getLong(2)});
+
+        if (!duplicates.isEmpty()) {
+            jdbcTemplate.batchUpdate("DELETE FROM review WHERE id = ?", duplicates, BATCH_SIZE,
+                    (ps, row) -> ps.setLong(1, row[0]));
+
+            Set<Long> placeIds = new LinkedHashSet<>();
+            duplicates.forEach(row -> placeIds.add(row[1]));
+            // 집계 컬럼이 아직 없으면 (이전 스키마) 재계산할 것도 없음
+            if (columnExists("place", "rating_sum")) {
+                jdbcTemplate.batchUpdate(RECALCULATE_PLACE_SQL, new ArrayList<>(placeIds), BATCH_SIZE,
+                        (ps, placeId) -> ps.setLong(1, placeId));
+            }
+            log.warn("[Migration] 중복 리뷰 삭제: reviews={}, places={}", duplicates.size(), placeIds.size());
+        }
+
+        jdbcTemplate.execute("ALTER TABLE review ADD CONSTRAINT " + Review.UK_MEMBER_PLACE + " UNIQUE (member_id, place_id)");
+        log.info("[Migration] review 유니크 제약 추가: {}", Review.UK_MEMBER_PLACE);
+    }
+
+    // 기존 FK 를 지우고 고정된 이름으로 다시 추가 (MySQL 은 FK 이름 변경을 지원하지 않음)
+    // 중간에 실패해도 다시 실행하면 없는 FK 만 추가됨
+    private void renameForeignKey(String column, String name, String referencedTable) {
+        if (constraintExists(name)) {
+            return;
+        }
+        for (String existing : foreignKeysOn(column)) {
+            jdbcTemplate.execute(isH2()
+                    ? "ALTER TABLE review DROP CONSTRAINT " + existing
+                    : "ALTER TABLE review DROP FOREIGN KEY " + existing);
+        }
+        jdbcTemplate.execute("ALTER TABLE review ADD CONSTRAINT " + name
+                + " FOREIGN KEY (" + column + ") REFERENCES " + referencedTable + " (id)");
+        log.info("[Migration] review 외래 키 이름 고정: {}", name);
+    }
+
+    // H2 는 이름을 대문자로 저장하므로 소문자로 비교
+    private boolean constraintExists(String name) {
+        Integer count = jdbcTemplate.queryForObject("""
+                        SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS
+                        WHERE TABLE_SCHEMA = SCHEMA() AND LOWER(TABLE_NAME) = 'review' AND LOWER(CONSTRAINT_NAME) = ?
+                        """,
+                Integer.class, name);
+        return count != null && count > 0;
+    }
+
+    private List<String> foreignKeysOn(String column) {
+        return jdbcTemplate.queryForList("""
+                        SELECT tc.CONSTRAINT_NAME
+                        FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS tc
+                        JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE kcu
+                          ON kcu.CONSTRAINT_SCHEMA = tc.CONSTRAINT_SCHEMA AND kcu.CONSTRAINT_NAME = tc.CONSTRAINT_NAME
+                         AND kcu.TABLE_NAME = tc.TABLE_NAME
+                        WHERE tc.TABLE_SCHEMA = SCHEMA() AND LOWER(tc.TABLE_NAME) = 'review'
+                          AND tc.CONSTRAINT_TYPE = 'FOREIGN KEY' AND LOWER(kcu.COLUMN_NAME) = ?
+                        """,
+                String.class, column);
+    }
+
+    // 테이블이나 컬럼이 없으면 조회가 실패함 (DB 마다 다른 메타데이터 대소문자 처리를 피하기 위함)
+    private boolean columnExists(String table, String column) {
+        try {
+            jdbcTemplate.queryForList("SELECT " + column + " FROM " + table + " WHERE 1 = 0");
+            return true;
+        } catch (DataAccessException e) {
+            return false;
+        }
+    }
+
+    private boolean isH2() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        return "H2".equalsIgnoreCase(product);
+    }
+}
@@ -6,6 +6,9 @@ import org.springframework.http.HttpStatus;
 @Getter
 public enum ErrorCode {
 
+    // 공통
+    CONCURRENT_UPDATE_CONFLICT("C001", HttpStatus.CONFLICT, "동시에 처리 중인 요청이 있습니다. 잠시 후 다시 시도해 주세요."),
+
     // 회원 (Member)
     DUPLICATE_MEMBER_ID("M003", HttpStatus.CONFLICT, "이미 사용 중인 아이디입니다."),
     DUPLICATE_EMAIL("M004", HttpStatus.CONFLICT, "이미 가입된 이메일입니다."),
@@ -43,6 +46,9 @@ public enum ErrorCode {
     //리뷰
     NOT_FOUND_REVIEW("R001",HttpStatus.NOT_FOUND,"리뷰를 찾을 수 없습니다."),
     GIVEN_REVIEW("R002",HttpStatus.NOT_FOUND,"이미 별점을 남겼습니다."),
+    INVALID_RANKING_STRATEGY("R003", HttpStatus.BAD_REQUEST, "지원하지 않는 정렬 방식입니다. (avg, bayesian, wilson)"),
+    INVALID_RATING("R004", HttpStatus.BAD_REQUEST, "별점은 1점에서 5점 사이여야 합니다."),
+    INVALID_BULK_REVIEW_PAYLOAD("R005", HttpStatus.BAD_REQUEST, "리뷰 대량 등록 요청은 {memberId, placeId, rating} 배열이어야 합니다."),
   
     // 인증/인가
     TOKEN_NOT_FOUND("A005", HttpStatus.UNAUTHORIZED, "요청에 토큰이 존재하지 않습니다."),
@@ -51,6 +57,7 @@ public enum ErrorCode {
     ACCESS_DENIED("A016", HttpStatus.FORBIDDEN, "인가되지 않은 요청입니다."),
 
     INACTIVE_MEMBER("A017",HttpStatus.FORBIDDEN, "비활성화된 계정입니다. 로그인할 수 없습니다."),
+    TOO_MANY_LOGIN_ATTEMPTS("A019", HttpStatus.TOO_MANY_REQUESTS, "로그인 실패가 반복되어 잠시 후 다시 시도해 주세요."),
 
 
     UNAUTHORIZED_MEMBER("A006", HttpStatus.FORBIDDEN, "접근 권한이 없습니다."),
@@ -62,6 +69,7 @@ public enum ErrorCode {
     INVALID_REFRESH_TOKEN("A003", HttpStatus.UNAUTHORIZED, "리프레시 토큰이 유효하지 않습니다."),
     EXPIRED_REFRESH_TOKEN("A008", HttpStatus.UNAUTHORIZED, "리프레시 토큰이 만료되었습니다."),
     MISMATCH_REFRESH_TOKEN("A004", HttpStatus.UNAUTHORIZED, "저장된 리프레시 토큰과 일치하지 않습니다."),
+    REUSED_REFRESH_TOKEN("A018", HttpStatus.UNAUTHORIZED, "이미 사용된 리프레시 토큰입니다. 다시 로그인해 주세요."),
 
     INVALID_ACCESS_TOKEN("A010", HttpStatus.UNAUTHORIZED, "유효하지 않은 액세스 토큰입니다."),
     EXPIRED_ACCESS_TOKEN("A009", HttpStatus.UNAUTHORIZED, "액세스 토큰이 만료되었습니다.")
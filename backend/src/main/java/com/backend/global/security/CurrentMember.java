@@ -0,0 +1,16 @@
+package com.backend.global.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 인증된 회원의 PK 를 컨트롤러 파라미터로 주입 (Long / long)
+ * - JwtAuthenticationFilter 가 검증해 둔 SecurityContext 의 인증 정보를 사용하므로 토큰을 다시 파싱하지 않음
+ * - 예: public ApiResponse<...> list(@CurrentMember Long memberId)
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentMember {
+}
@@ -0,0 +1,42 @@
+package com.backend.global.security;
+
+import com.backend.global.exception.BusinessException;
+import com.backend.global.jwt.JwtClaims;
+import com.backend.global.response.ErrorCode;
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * @CurrentMember 파라미터에 SecurityContext 의 회원 PK 주입
+ */
+public class CurrentMemberArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        Class<?> type = parameter.getParameterType();
+        return parameter.hasParameterAnnotation(CurrentMember.class)
+                && (type == Long.class || type == long.class);
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter,
+                                  ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest,
+                                  WebDataBinderFactory binderFactory) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null) {
+            if (authentication.getDetails() instanceof JwtClaims claims) {
+                return claims.memberId();
+            }
+            if (authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+                return userDetails.getId();
+            }
+        }
+        throw new BusinessException(ErrorCode.UNAUTHORIZED_REQUEST);
+    }
+}
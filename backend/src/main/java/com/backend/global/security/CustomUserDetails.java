@@ -1,6 +1,7 @@
 package com.backend.global.security;
 
 import com.backend.domain.member.entity.Member;
+import com.backend.global.jwt.JwtClaims;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -25,6 +26,15 @@ public class CustomUserDetails implements UserDetails {
         this.role = member.getRole().name();
     }
 
+    // 검증된 토큰 Claims 로만 생성 (DB 조회 없음) - 로그인 ID, 닉네임, 비밀번호는 비어 있음
+    public CustomUserDetails(JwtClaims claims) {
+        this.id = claims.memberId();
+        this.memberId = null;
+        this.password = null;
+        this.nickname = null;
+        this.role = claims.role().name();
+    }
+
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
         return Collections.singleton(() -> "ROLE_" + role);
@@ -37,7 +47,7 @@ public class CustomUserDetails implements UserDetails {
 
     @Override
     public String getUsername() {
-        return memberId; // 로그인용 ID 기준
+        return memberId != null ? memberId : String.valueOf(id); // 로그인용 ID 기준 (Claims 로 만든 경우 PK)
     }
 
     @Override
@@ -1,7 +1,8 @@
 package com.backend.global.security;
 
+import com.backend.global.jwt.JwtClaims;
 import com.backend.global.jwt.JwtTokenProvider;
-import com.backend.global.jwt.TokenStatus;
+import com.backend.global.jwt.ParsedToken;
 import com.backend.global.response.ErrorCode;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -16,7 +17,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.List;
 
 @Component
 @RequiredArgsConstructor
@@ -25,6 +25,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
     private final JwtErrorResponseWriter jwtErrorResponseWriter;
+    private final MemberRevocationRegistry memberRevocationRegistry;
+    private final RoutePolicy routePolicy;
+
+    // 인증이 필요 없는 경로 (회원가입, 로그인, 재발급, 스웨거 등)는 필터를 타지 않음
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return routePolicy.isTokenFree(request);
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -34,11 +42,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         String requestURI = request.getRequestURI();
 
-        // 1. 인증이 필요 없는 경로 (회원가입, 로그인, 재발급 등)
-        if (List.of("/api/auth/login", "/api/members/signup", "/api/auth/reissue").contains(requestURI)) {
-            filterChain.doFilter(request, response);
-            return;
-        }
+        // 1. 인증이 필요 없는 경로는 shouldNotFilter 에서 제외됨
 
         // 2. Authorization 헤더에서 JWT 추출
         String header = request.getHeader(HttpHeaders.AUTHORIZATION);
@@ -53,21 +57,28 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         try {
-            // 4. 토큰 상태 검증
-            TokenStatus status = jwtTokenProvider.validateTokenStatus(token);
+            // 4. 토큰 파싱 + 상태 검증 (서명 검증은 여기서 한 번만)
+            ParsedToken parsed = jwtTokenProvider.parse(token);
 
-            switch (status) {
+            switch (parsed.status()) {
                 case VALID -> {
 
-                    String tokenType = jwtTokenProvider.getTokenType(token);
-                    if (!"access".equals(tokenType)) {
+                    JwtClaims claims = parsed.claims();
+                    if (!claims.isAccessToken()) {
                         log.warn("[JWT] Refresh Token으로 접근 시도 차단: {}", requestURI);
                         jwtErrorResponseWriter.write(response, ErrorCode.INVALID_ACCESS_TOKEN);
                         return;
                     }
 
-                    Authentication authentication = jwtTokenProvider.getAuthentication(token);
+                    if (memberRevocationRegistry.isRevoked(claims)) {
+                        log.warn("[JWT] 탈퇴/비활성화된 회원의 토큰 차단: memberPk={}", claims.memberId());
+                        jwtErrorResponseWriter.write(response, ErrorCode.INACTIVE_MEMBER);
+                        return;
+                    }
+
+                    Authentication authentication = jwtTokenProvider.getAuthentication(claims);
                     SecurityContextHolder.getContext().setAuthentication(authentication);
+                    request.setAttribute(JwtClaims.REQUEST_ATTRIBUTE, claims);
                     log.debug("[JWT] 유효한 토큰으로 인증 완료: {}", requestURI);
                 }
 
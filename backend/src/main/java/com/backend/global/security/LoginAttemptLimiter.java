@@ -0,0 +1,43 @@
+package com.backend.global.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 로그인 아이디별 실패 횟수 제한
+ * - max-attempts 번 연속 실패하면 마지막 실패 후 lock-duration 동안 비밀번호 검증(BCrypt) 전에 바로 거절
+ * - 존재하지 않는 아이디도 같은 방식으로 세므로, 무작위 아이디 대입도 최대 max-size 개까지만 기억
+ */
+@Component
+public class LoginAttemptLimiter {
+
+    private final int maxAttempts;
+    private final Cache<String, Integer> failures;
+
+    public LoginAttemptLimiter(@Value("${custom.security.login.max-attempts:5}") int maxAttempts,
+                               @Value("${custom.security.login.lock-duration:5m}") Duration lockDuration,
+                               @Value("${custom.security.login.max-size:100000}") long maxSize) {
+        this.maxAttempts = maxAttempts;
+        this.failures = Caffeine.newBuilder()
+                .expireAfterWrite(lockDuration)
+                .maximumSize(maxSize)
+                .build();
+    }
+
+    public boolean isBlocked(String loginId) {
+        Integer count = failures.getIfPresent(loginId);
+        return count != null && count >= maxAttempts;
+    }
+
+    public void recordFailure(String loginId) {
+        failures.asMap().merge(loginId, 1, Integer::sum);
+    }
+
+    public void reset(String loginId) {
+        failures.invalidate(loginId);
+    }
+}
@@ -0,0 +1,60 @@
+package com.backend.global.security;
+
+import com.backend.domain.member.entity.MemberStatus;
+import com.backend.global.jwt.JwtClaims;
+import com.backend.global.transaction.AfterCommit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 탈퇴/비활성화/강제 로그아웃된 회원의 AccessToken 차단 목록 (memberPk -> 차단 시각)
+ * - 회원 정보를 DB 에서 다시 읽지 않고 토큰 Claims 만으로 인증하므로, 상태 변경은 이 목록으로 전파
+ * - 차단 시각 이전에 발급(iat)된 토큰만 막으므로, 이후 새로 발급된 토큰은 그대로 사용 가능
+ * - 이미 발급된 AccessToken 은 최대 access-token 만료 시간까지만 유효하므로 그만큼만 보관
+ */
+@Slf4j
+@Component
+public class MemberRevocationRegistry {
+
+    private record Revocation(long revokedAfter, long until) {
+    }
+
+    private final long ttlMillis;
+    private final Map<Long, Revocation> revocations = new ConcurrentHashMap<>();
+
+    public MemberRevocationRegistry(@Value("${custom.jwt.access-token.expire-time}") long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+    }
+
+    /** 커밋 이후 회원의 기존 토큰 차단 */
+    public void revokeAfterCommit(Long memberPk) {
+        AfterCommit.run(() -> revoke(memberPk));
+    }
+
+    public void revoke(Long memberPk) {
+        long now = System.currentTimeMillis();
+        revocations.put(memberPk, new Revocation(now, now + ttlMillis));
+        revocations.values().removeIf(revocation -> revocation.until() <= now);
+        log.info("[Auth] 회원 토큰 차단: memberPk={}", memberPk);
+    }
+
+    public boolean isRevoked(JwtClaims claims) {
+        if (claims.status() != null && claims.status() != MemberStatus.ACTIVE) {
+            return true;
+        }
+        Revocation revocation = revocations.get(claims.memberId());
+        if (revocation == null) {
+            return false;
+        }
+        if (revocation.until() <= System.currentTimeMillis()) {
+            revocations.remove(claims.memberId(), revocation);
+            return false;
+        }
+        // iat 는 초 단위로 내림되므로, 차단과 같은 초에 발급된 토큰도 차단됨
+        return claims.issuedAt() == null || claims.issuedAt().getTime() <= revocation.revokedAfter();
+    }
+}
@@ -0,0 +1,65 @@
+package com.backend.global.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.server.PathContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 공개 경로 정책 (SecurityConfig 와 JwtAuthenticationFilter 가 함께 사용)
+ * - TOKEN_FREE : 토큰을 아예 보지 않는 경로 (로그인, 재발급, 회원가입, 스웨거, H2 콘솔) -> 필터 자체를 건너뜀
+ * - PERMIT_ALL : 인증 없이 접근 가능한 경로 (TOKEN_FREE + /api/auth/**)
+ *   /api/auth/logout 처럼 토큰이 있으면 인증 정보를 채워야 하는 경로는 필터를 거침
+ * 패턴은 기동 시 한 번만 PathPattern 으로 컴파일
+ */
+@Component
+public class RoutePolicy {
+
+    private static final List<String> TOKEN_FREE = List.of(
+            "/api/auth/login",
+            "/api/auth/reissue",
+            "/api/members/signup",
+            "/h2-console/**",
+            "/swagger-ui.html",
+            "/swagger-ui/**",
+            "/v3/api-docs",
+            "/v3/api-docs/**",
+            "/v3/api-docs.yaml",
+            "/webjars/**"
+    );
+
+    private static final List<String> PUBLIC_ONLY = List.of(
+            "/api/auth/**"
+    );
+
+    private final List<PathPattern> tokenFreePatterns;
+
+    public RoutePolicy() {
+        PathPatternParser parser = new PathPatternParser();
+        this.tokenFreePatterns = TOKEN_FREE.stream()
+                .map(parser::parse)
+                .toList();
+    }
+
+    // SecurityConfig permitAll 대상
+    public String[] permitAllPatterns() {
+        return Stream.concat(TOKEN_FREE.stream(), PUBLIC_ONLY.stream())
+                .toArray(String[]::new);
+    }
+
+    // 토큰 처리 없이 통과시킬 요청인지
+    public boolean isTokenFree(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        for (PathPattern pattern : tokenFreePatterns) {
+            if (pattern.matches(pathContainer)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
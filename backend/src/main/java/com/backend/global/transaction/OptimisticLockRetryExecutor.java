@@ -0,0 +1,47 @@
+package com.backend.global.transaction;
+
+import com.backend.global.exception.BusinessException;
+import com.backend.global.response.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+/**
+ * 낙관적 락(@Version) 충돌 시 트랜잭션 전체를 다시 실행하는 헬퍼
+ * - 충돌은 커밋(flush) 시점에 발생하므로 @Transactional 메서드 내부가 아닌 트랜잭션 바깥에서 재시도해야 한다.
+ * - 매 시도마다 새 트랜잭션에서 엔티티를 다시 조회하므로 action 안에서 조회부터 수행할 것
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OptimisticLockRetryExecutor {
+
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final TransactionTemplate transactionTemplate;
+
+    public <T> T execute(Supplier<T> action) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> action.get());
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= MAX_ATTEMPTS) {
+                    log.warn("[Retry] 낙관적 락 충돌 재시도 횟수 초과: attempts={}", attempt);
+                    throw new BusinessException(ErrorCode.CONCURRENT_UPDATE_CONFLICT);
+                }
+                log.debug("[Retry] 낙관적 락 충돌, 재시도: attempt={}", attempt);
+            }
+        }
+    }
+
+    public void run(Runnable action) {
+        execute(() -> {
+            action.run();
+            return null;
+        });
+    }
+}
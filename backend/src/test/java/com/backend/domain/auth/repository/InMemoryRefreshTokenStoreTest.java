@@ -0,0 +1,50 @@
+package com.backend.domain.auth.repository;
+
+import com.backend.domain.auth.entity.RefreshToken;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class InMemoryRefreshTokenStoreTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("쓰는 도중 잘린 마지막 줄은 건너뛰고 나머지 토큰으로 기동")
+    void t1() throws Exception {
+        Path snapshot = dir.resolve("refresh-tokens.log");
+        LocalDateTime issuedAt = LocalDateTime.now().withNano(0);
+        LocalDateTime expiry = issuedAt.plusDays(7);
+        Files.write(snapshot, List.of(
+                String.join("\t", "PUT", "hash-1", "1", "family-1", issuedAt.toString(), expiry.toString(), "-"),
+                String.join("\t", "PUT", "hash-2", "2", "family-2", issuedAt.toString(), expiry.toString(), "-"),
+                String.join("\t", "ROT", "hash-2", issuedAt.plusHours(1).toString()),
+                // 크래시로 잘린 줄 (만료 시각 중간까지만 기록됨)
+                String.join("\t", "PUT", "hash-3", "3", "family-3", issuedAt.toString(), "2030-01-0")
+        ), StandardCharsets.UTF_8);
+
+        InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore(snapshot.toString());
+        store.load();
+        try {
+            assertThat(store.findByTokenHash("hash-1")).isPresent();
+            assertThat(store.findByTokenHash("hash-2")).get().extracting(RefreshToken::isRotated).isEqualTo(true);
+            assertThat(store.findByTokenHash("hash-3")).isEmpty();
+
+            // 기동 시 살아있는 토큰만 다시 써서 잘린 줄은 파일에서도 사라짐
+            assertThat(Files.readAllLines(snapshot, StandardCharsets.UTF_8))
+                    .hasSize(2)
+                    .noneMatch(line -> line.contains("hash-3"));
+        } finally {
+            store.close();
+        }
+    }
+}
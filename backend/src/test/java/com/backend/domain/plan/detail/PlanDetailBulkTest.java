@@ -0,0 +1,191 @@
+package com.backend.domain.plan.detail;
+
+import com.backend.domain.category.entity.Category;
+import com.backend.domain.category.repository.CategoryRepository;
+import com.backend.domain.member.entity.Member;
+import com.backend.domain.member.entity.Role;
+import com.backend.domain.member.repository.MemberRepository;
+import com.backend.domain.place.entity.Place;
+import com.backend.domain.place.repository.PlaceRepository;
+import com.backend.domain.plan.detail.dto.PlanDayReplaceRequestBody;
+import com.backend.domain.plan.detail.dto.PlanDayReplaceRequestBody.Element;
+import com.backend.domain.plan.detail.dto.PlanDetailRequestBody;
+import com.backend.domain.plan.detail.dto.PlanDetailsElementBody;
+import com.backend.domain.plan.detail.entity.PlanDetail;
+import com.backend.domain.plan.detail.repository.PlanDetailRepository;
+import com.backend.domain.plan.detail.service.PlanDetailBulkService;
+import com.backend.domain.plan.detail.service.PlanDetailService;
+import com.backend.domain.plan.dto.PlanCreateRequestBody;
+import com.backend.domain.plan.entity.Plan;
+import com.backend.domain.plan.repository.PlanMemberRepository;
+import com.backend.domain.plan.repository.PlanRepository;
+import com.backend.domain.plan.service.PlanService;
+import com.backend.global.exception.BusinessException;
+import com.backend.global.response.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class PlanDetailBulkTest {
+
+    @Autowired
+    private PlanDetailBulkService planDetailBulkService;
+    @Autowired
+    private PlanDetailService planDetailService;
+    @Autowired
+    private PlanService planService;
+    @Autowired
+    private PlanDetailRepository planDetailRepository;
+    @Autowired
+    private PlanRepository planRepository;
+    @Autowired
+    private PlanMemberRepository planMemberRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private PlaceRepository placeRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Category category;
+    private Place place;
+    private Member member;
+    private final List<Long> planIds = new ArrayList<>();
+
+    // 교체 대상 날짜 (계획 기간: 전날 ~ 다음날)
+    private final LocalDate day = LocalDate.now().plusMonths(1);
+
+    @BeforeEach
+    void setUp() {
+        // 다른 @SpringBootTest 와 같은 DB 를 쓰므로 유니크 컬럼은 매번 다르게
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+        category = new Category();
+        category.setName("PLAN_BULK_" + suffix);
+        categoryRepository.save(category);
+
+        place = placeRepository.save(Place.builder()
+                .placeName("일괄 교체 테스트 여행지")
+                .address("서울시 테스트구")
+                .gu("테스트구")
+                .category(category)
+                .build());
+
+        member = memberRepository.save(Member.builder()
+                .memberId("planBulk_" + suffix)
+                .password("1234")
+                .email("plan-bulk-" + suffix + "@test.com")
+                .nickname("bulk_" + suffix)
+                .role(Role.USER)
+                .build());
+    }
+
+    // 만든 계획(상세 일정/멤버 포함)과 장소/회원/카테고리는 모두 지움
+    @AfterEach
+    void tearDown() {
+        for (Long planId : planIds) {
+            planDetailRepository.deleteAll(planDetailRepository.getPlanDetailsByPlanId(planId));
+            planMemberRepository.deleteAll(planMemberRepository.getPlanMembersByPlan(planRepository.getReferenceById(planId)));
+            planRepository.deleteById(planId);
+        }
+        placeRepository.deleteById(place.getId());
+        memberRepository.deleteById(member.getId());
+        categoryRepository.deleteById(category.getId());
+    }
+
+    @Test
+    @DisplayName("하루 일정 교체 - 그대로/수정/추가/삭제가 반영되고 다른 날 일정은 유지")
+    void t1() {
+        long planId = createPlan();
+        PlanDetail kept = addDetail(planId, at(9), at(10), "유지");
+        PlanDetail updated = addDetail(planId, at(11), at(12), "수정 전");
+        PlanDetail deleted = addDetail(planId, at(13), at(14), "삭제");
+        PlanDetail otherDay = addDetail(planId, at(9).plusDays(1), at(10).plusDays(1), "다음날");
+
+        List<PlanDetailsElementBody> result = planDetailBulkService.replaceDay(planId, new PlanDayReplaceRequestBody(day, List.of(
+                element(kept.getId(), at(9), at(10), "유지"),
+                element(updated.getId(), at(12), at(13), "수정 후"),
+                element(null, at(15), at(16), "추가")
+        )), member.getId());
+
+        assertThat(result).extracting(PlanDetailsElementBody::title).containsExactly("유지", "수정 후", "추가");
+        assertThat(result.get(0).id()).isEqualTo(kept.getId());
+        assertThat(result.get(1).id()).isEqualTo(updated.getId());
+        assertThat(result.get(1).startTime()).isEqualTo(at(12));
+        assertThat(planDetailRepository.findById(deleted.getId())).isEmpty();
+        assertThat(planDetailRepository.findById(otherDay.getId())).isPresent();
+    }
+
+    @Test
+    @DisplayName("전날 시작해 자정을 넘기는 일정과 겹치면 CONFLICT_TIME")
+    void t2() {
+        long planId = createPlan();
+        addDetail(planId, at(23).minusDays(1), at(1), "전날 밤");
+
+        PlanDayReplaceRequestBody request = new PlanDayReplaceRequestBody(day, List.of(
+                element(null, at(0).plusMinutes(30), at(2), "겹침")
+        ));
+
+        assertThatThrownBy(() -> planDetailBulkService.replaceDay(planId, request, member.getId()))
+                .isInstanceOf(BusinessException.class)
+                .extracting(e -> ((BusinessException) e).getErrorCode())
+                .isEqualTo(ErrorCode.CONFLICT_TIME);
+    }
+
+    @Test
+    @DisplayName("다른 날짜나 다른 계획의 일정 id 를 넘기면 NOT_FOUND_DETAIL_PLAN")
+    void t3() {
+        long planId = createPlan();
+        long otherPlanId = createPlan();
+        PlanDetail otherDay = addDetail(planId, at(9).plusDays(1), at(10).plusDays(1), "다음날");
+        PlanDetail otherPlan = addDetail(otherPlanId, at(9), at(10), "다른 계획");
+
+        for (PlanDetail detail : List.of(otherDay, otherPlan)) {
+            PlanDayReplaceRequestBody request = new PlanDayReplaceRequestBody(day, List.of(
+                    element(detail.getId(), at(11), at(12), "이동")
+            ));
+
+            assertThatThrownBy(() -> planDetailBulkService.replaceDay(planId, request, member.getId()))
+                    .isInstanceOf(BusinessException.class)
+                    .extracting(e -> ((BusinessException) e).getErrorCode())
+                    .isEqualTo(ErrorCode.NOT_FOUND_DETAIL_PLAN);
+        }
+        assertThat(planDetailRepository.findById(otherPlan.getId()).orElseThrow().getStartTime()).isEqualTo(at(9));
+    }
+
+    private long createPlan() {
+        Plan plan = planService.createPlan(new PlanCreateRequestBody(
+                "일괄 교체 테스트", "내용", day.minusDays(1).atStartOfDay(), day.plusDays(1).atTime(23, 59)
+        ), member.getId());
+        planIds.add(plan.getId());
+        return plan.getId();
+    }
+
+    private PlanDetail addDetail(long planId, LocalDateTime startTime, LocalDateTime endTime, String title) {
+        return planDetailService.addPlanDetail(
+                new PlanDetailRequestBody(planId, place.getId(), startTime, endTime, title, "내용"), member.getId());
+    }
+
+    private Element element(Long id, LocalDateTime startTime, LocalDateTime endTime, String title) {
+        return new Element(id, place.getId(), startTime, endTime, title, "내용");
+    }
+
+    private LocalDateTime at(int hour) {
+        return day.atTime(hour, 0);
+    }
+}
@@ -0,0 +1,65 @@
+package com.backend.domain.plan.detail.service;
+
+import com.backend.domain.plan.detail.dto.PlanDetailInterval;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PlanIntervalsTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2030, 1, 1, 0, 0);
+
+    private static PlanDetailInterval interval(long id, int startHour, int endHour) {
+        return new PlanDetailInterval(id, DAY.plusHours(startHour), DAY.plusHours(endHour));
+    }
+
+    @Test
+    @DisplayName("이어지는 구간([10, 11) 과 [11, 12))은 겹치지 않음")
+    void t1() {
+        PlanIntervals intervals = PlanIntervals.of(0, List.of(interval(1, 10, 11)));
+
+        assertThat(intervals.overlaps(DAY.plusHours(11), DAY.plusHours(12), null)).isFalse();
+        assertThat(intervals.overlaps(DAY.plusHours(9), DAY.plusHours(10), null)).isFalse();
+        assertThat(intervals.overlaps(DAY.plusHours(10), DAY.plusHours(11), null)).isTrue();
+    }
+
+    @Test
+    @DisplayName("수정 시 최대 종료 시각을 가진 자기 자신은 제외")
+    void t2() {
+        PlanIntervals intervals = PlanIntervals.of(0, List.of(interval(1, 8, 9), interval(2, 10, 12)));
+
+        // 2번을 [11, 13) 으로 옮기는 경우 - 2번 자신과만 겹침
+        assertThat(intervals.overlaps(DAY.plusHours(11), DAY.plusHours(13), 2L)).isFalse();
+        assertThat(intervals.overlaps(DAY.plusHours(11), DAY.plusHours(13), null)).isTrue();
+    }
+
+    @Test
+    @DisplayName("자기 자신을 빼면 두 번째로 늦은 종료 시각으로 검사")
+    void t3() {
+        // 1번 [8, 11), 2번 [9, 14) - 2번이 최대 종료, 1번이 두 번째 최대 종료
+        PlanIntervals intervals = PlanIntervals.of(0, List.of(interval(1, 8, 11), interval(2, 9, 14)));
+
+        // 2번을 [10, 12) 로 -> 1번 [8, 11) 과 겹침
+        assertThat(intervals.overlaps(DAY.plusHours(10), DAY.plusHours(12), 2L)).isTrue();
+        // 2번을 [11, 12) 로 -> 1번과 이어지므로 겹치지 않음
+        assertThat(intervals.overlaps(DAY.plusHours(11), DAY.plusHours(12), 2L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("추가/수정/삭제 반영 후에도 정렬과 최대 종료 시각이 유지됨")
+    void t4() {
+        PlanIntervals intervals = PlanIntervals.of(0, List.of(interval(1, 10, 11)))
+                .apply(1, null, interval(2, 8, 9))
+                .apply(2, 1L, interval(1, 13, 15))
+                .apply(3, 2L, null);
+
+        assertThat(intervals.version()).isEqualTo(3);
+        assertThat(intervals.overlaps(DAY.plusHours(8), DAY.plusHours(9), null)).isFalse();
+        assertThat(intervals.overlaps(DAY.plusHours(10), DAY.plusHours(11), null)).isFalse();
+        assertThat(intervals.overlaps(DAY.plusHours(14), DAY.plusHours(16), null)).isTrue();
+    }
+}
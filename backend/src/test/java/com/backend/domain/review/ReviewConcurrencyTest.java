@@ -0,0 +1,132 @@
+package com.backend.domain.review;
+
+import com.backend.domain.category.entity.Category;
+import com.backend.domain.category.repository.CategoryRepository;
+import com.backend.domain.member.entity.Member;
+import com.backend.domain.member.entity.Role;
+import com.backend.domain.member.repository.MemberRepository;
+import com.backend.domain.place.entity.Place;
+import com.backend.domain.place.repository.PlaceRepository;
+import com.backend.domain.review.dto.ReviewRequestDto;
+import com.backend.domain.review.repository.ReviewRepository;
+import com.backend.domain.review.service.ReviewService;
+import com.backend.global.exception.BusinessException;
+import com.backend.global.response.ErrorCode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+public class ReviewConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private ReviewService reviewService;
+    @Autowired
+    private ReviewRepository reviewRepository;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private PlaceRepository placeRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Category category;
+    private Place place;
+    private Member member;
+
+    // 다른 @SpringBootTest 와 같은 컨텍스트(DB)를 공유하므로 만든 행은 모두 지움
+    @AfterEach
+    void tearDown() {
+        if (member != null && place != null) {
+            reviewRepository.findByMemberIdAndPlaceId(member.getId(), place.getId()).ifPresent(reviewRepository::delete);
+        }
+        if (place != null) {
+            placeRepository.deleteById(place.getId());
+        }
+        if (member != null) {
+            memberRepository.deleteById(member.getId());
+        }
+        if (category != null) {
+            categoryRepository.deleteById(category.getId());
+        }
+    }
+
+    @Test
+    @DisplayName("같은 회원/여행지 리뷰 동시 등록 시 하나만 저장되고 나머지는 GIVEN_REVIEW")
+    void t1() throws Exception {
+        // 이름이 고정이면 다른 테스트의 데이터와 유니크 제약이 겹칠 수 있으므로 매번 다르게
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+
+        category = new Category();
+        category.setName("REVIEW_CONCURRENCY_" + suffix);
+        categoryRepository.save(category);
+
+        place = placeRepository.save(Place.builder()
+                .placeName("동시성 테스트 여행지")
+                .address("서울시 테스트구")
+                .gu("테스트구")
+                .category(category)
+                .build());
+
+        member = memberRepository.save(Member.builder()
+                .memberId("reviewRace_" + suffix)
+                .password("1234")
+                .email("review-race-" + suffix + "@test.com")
+                .nickname("race_" + suffix)
+                .role(Role.USER)
+                .build());
+
+        ReviewRequestDto request = new ReviewRequestDto(member.getId(), place.getId(), 5, null, null, null, null);
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch ready = new CountDownLatch(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger success = new AtomicInteger();
+        List<ErrorCode> failures = new CopyOnWriteArrayList<>();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            futures.add(executor.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    reviewService.createReview(request, member.getId());
+                    success.incrementAndGet();
+                } catch (BusinessException e) {
+                    failures.add(e.getErrorCode());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+
+        ready.await();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertThat(success.get()).isEqualTo(1);
+        assertThat(failures).hasSize(THREADS - 1).containsOnly(ErrorCode.GIVEN_REVIEW);
+        assertThat(reviewRepository.findByMemberIdAndPlaceId(member.getId(), place.getId())).isPresent();
+
+        Place updated = placeRepository.findById(place.getId()).orElseThrow();
+        assertThat(updated.getRatingCount()).isEqualTo(1);
+        assertThat(updated.getRatingSum()).isEqualTo(5L);
+    }
+}
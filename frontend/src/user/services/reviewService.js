@@ -12,11 +12,11 @@ export const createReview = async (reviewData) => {
 };
 
 // 리뷰 수정
-export const modifyReview = async (memberId, rating) => {
+export const modifyReview = async (reviewId, rating) => {
   try {
     const token = localStorage.getItem("accessToken");
     const response = await api.patch(
-      `/api/review/modify/${memberId}?modifyRating=${rating}`,
+      `/api/review/modify/${reviewId}?modifyRating=${rating}`,
       {},
       {
         headers: { Authorization: `Bearer ${token}` },
@@ -52,9 +52,11 @@ export const getMyReview = async (reviewId) => {
 };
 
 // 특정 여행지의 리뷰 조회
-export const getPlaceReviews = async (placeId) => {
+export const getPlaceReviews = async (placeId, cursor) => {
   try {
-    const response = await api.get(`/api/review/list/${placeId}`);
+    const response = await api.get(`/api/review/list/${placeId}`, {
+      params: { cursor },
+    });
     return response;
   } catch (error) {
     console.error("여행지 리뷰 조회 실패:", error);
@@ -62,9 +64,21 @@ export const getPlaceReviews = async (placeId) => {
   }
 };
 
+// 커서 기반 페이지 ({ reviews, nextCursor, hasNext })를 끝까지 따라가며 리뷰 배열로 합쳐 반환
 export const getAllReviews = async () => {
-  const response = await api.get("/api/review/myReview");
-  return response.data;
+  const reviews = [];
+  let cursor;
+  let hasNext = true;
+  while (hasNext) {
+    const response = await api.get("/api/review/myReview", {
+      params: { cursor, size: 100 },
+    });
+    const page = response.data ?? {};
+    reviews.push(...(page.reviews ?? []));
+    hasNext = Boolean(page.hasNext) && page.nextCursor != null;
+    cursor = page.nextCursor;
+  }
+  return reviews;
 };
 
 